@@ -10,6 +10,7 @@ public class _001_CommonElementsInArray {
         
         _01_BFA(array1, array2);
         _02_commonItems(array1, array2);
+        _03_commonItemsWithBloomFilter(array1, array2, 0.01);
 	}
 	
 	public static void _01_BFA(int[] array1, int[] array2){
@@ -41,4 +42,25 @@ public class _001_CommonElementsInArray {
 				System.out.print(i+ " ");
 		}
 	}	
+
+	public static void _03_commonItemsWithBloomFilter(int[] array1, int[] array2, double falsePositiveRate) {
+		// Time Complexity: O(n+m), most misses rejected by one cache-line probe
+		// Space Complexity: O(min(n,m))
+
+		if(array1.length>array2.length) {
+	        int[] temp = array1;
+	        array1 = array2;
+	        array2 = temp;
+		}
+		_059_BlockedBloomFilter filter = new _059_BlockedBloomFilter(Math.max(1, array1.length), falsePositiveRate);
+		HashMap<Integer, Boolean> hm = new HashMap<>();
+		for (int i : array1) {
+			filter.add(i);
+			hm.put(i, true);
+		}
+		for (int i : array2) {
+			if(filter.mightContain(i) && hm.containsKey(i))
+				System.out.print(i+ " ");
+		}
+	}
 }
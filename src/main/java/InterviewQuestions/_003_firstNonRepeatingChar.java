@@ -1,5 +1,6 @@
 package InterviewQuestions;
 
+import java.nio.CharBuffer;
 import java.util.HashMap;
 
 public class _003_firstNonRepeatingChar {
@@ -10,6 +11,7 @@ public class _003_firstNonRepeatingChar {
 		System.out.println(_01_BFA(str));
 		System.out.println(_02_UsingHashMap(str));
 		System.out.println(_03_Using_FrequencyArray(str));
+		System.out.println(Character.toString(_04_Using_StreamingTracker(str)));
 
 	}
 	
@@ -58,4 +60,14 @@ public class _003_firstNonRepeatingChar {
 		}
 		return 0;
 	}
+
+	public static int _04_Using_StreamingTracker(CharSequence str) {
+		// Time complexity: O(n) to feed, O(1) per query
+		// Space complexity: O(distinct code points)
+		// Returns a code point, or -1 when every character repeats
+
+		_062_FirstUniqueCharStream tracker = new _062_FirstUniqueCharStream();
+		tracker.feed(CharBuffer.wrap(str));
+		return tracker.firstUnique();
+	}
 }
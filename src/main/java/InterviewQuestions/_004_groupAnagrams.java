@@ -14,6 +14,8 @@ public class _004_groupAnagrams {
 
 		System.out.println(_01_BFA(str));
 		System.out.println(_02_UsingFrequencyArray(str));
+		System.out.println(_03_UsingCodePointHash(str));
+		System.out.println(_04_UsingParallelCollector(str));
 	}
 	
 	public static List<List<String>> _01_BFA(String[] str) {
@@ -70,4 +72,18 @@ public class _004_groupAnagrams {
 		}
 		return map.values();
 	}
+
+	public static List<List<String>> _03_UsingCodePointHash(String[] str) {
+		// Time complexity: O(n*k), plus O(k log k) collision check per word
+		// Space complexity: O(n), no key String per word; works for any code point
+
+		return _061_AnagramGrouper.group(str);
+	}
+
+	public static List<List<String>> _04_UsingParallelCollector(String[] str) {
+		// Time complexity: O(n*k / cores)
+		// Space complexity: O(n)
+
+		return _061_AnagramGrouper.groupParallel(Arrays.stream(str));
+	}
 }
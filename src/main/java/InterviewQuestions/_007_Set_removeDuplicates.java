@@ -9,6 +9,7 @@ public class _007_Set_removeDuplicates {
 	public static void main(String[] args) {
 		List<Integer> myList = List.of(1, 2, 3, 4, 1, 2, 5, 6, 7, 3, 4, 8, 9, 5); // [1, 2, 3, 4, 5, 6, 7, 8, 9]
 		System.out.println(_01_UsingSet(myList));
+		System.out.println(_02_CountUsingHyperLogLog(myList, 12)); // ~9
 	}
 
 	static Set<Integer> _01_UsingSet(List<Integer> myList) {
@@ -18,4 +19,15 @@ public class _007_Set_removeDuplicates {
 			set.add(i);
 		return set;
 	}
+
+	static long _02_CountUsingHyperLogLog(List<Integer> myList, int precision) {
+		// Time complexity: O(n)
+		// Space complexity: O(2^precision) bytes, independent of n
+		// Estimates set.size() without keeping the elements (relative error ~1.04/sqrt(2^precision))
+
+		_057_HyperLogLog hll = new _057_HyperLogLog(precision);
+		for (int i : myList)
+			hll.add(i);
+		return hll.cardinality();
+	}
 }
@@ -35,6 +35,11 @@ public class _008_Set_hasUniqueChars {
 		System.out.println(_04_UsingFrequencyArray(str3));
 		System.out.println(_04_UsingFrequencyArray(str4));
 		System.out.println(_04_UsingFrequencyArray(str5));
+
+		String str6 = "日本語"; // should return true
+		String str7 = "😀a😀"; // should return false
+		for (String str : new String[] { str1, str2, str3, str4, str5, str6, str7 })
+			System.out.println(_08_Dispatch(str));
 	}
 
 	static boolean _01_BFA(String str) {
@@ -88,4 +93,129 @@ public class _008_Set_hasUniqueChars {
 		}
 		return true;
 	}
-}
\ No newline at end of file
+
+	static boolean _05_UsingAsciiBitmask(CharSequence str) {
+		// Time: O(n), exits on the first repeat
+		// Space: O(1), two longs cover all 128 ASCII chars
+		// Caller guarantees every char is < 128
+
+		if (str.length() > 128)
+			return false;
+		long low = 0, high = 0;
+		for (int i = 0; i < str.length(); i++) {
+			char ch = str.charAt(i);
+			long bit = 1L << ch;
+			if (ch < 64) {
+				if ((low & bit) != 0) return false;
+				low |= bit;
+			} else {
+				if ((high & bit) != 0) return false;
+				high |= bit;
+			}
+		}
+		return true;
+	}
+
+	// One 8 KB BMP bitset per thread; only the words a call touched are cleared afterwards
+	private static final ThreadLocal<long[]> BMP_BITS = ThreadLocal.withInitial(() -> new long[1 << 10]);
+
+	static boolean _06_UsingBmpBitset(CharSequence str) {
+		// Time: O(n), exits on the first repeat
+		// Space: O(1), reused 65536-bit set
+		// Treats each char as a code unit; use _07 when surrogate pairs are present
+
+		if (str.length() > 1 << 16)
+			return false;
+		long[] bits = BMP_BITS.get();
+		int i = 0;
+		boolean unique = true;
+		for (; i < str.length(); i++) {
+			char ch = str.charAt(i);
+			long bit = 1L << ch;
+			if ((bits[ch >>> 6] & bit) != 0) {
+				unique = false;
+				break;
+			}
+			bits[ch >>> 6] |= bit;
+		}
+		for (int j = 0; j < i; j++)
+			bits[str.charAt(j) >>> 6] = 0;
+		return unique;
+	}
+
+	static boolean _07_UsingCodePoints(CharSequence str) {
+		// Time: O(n), exits on the first repeat
+		// Space: O(1) for BMP code points + O(k) sparse table for supplementary ones
+
+		long[] bits = BMP_BITS.get();
+		int[] sparse = null;
+		int sparseCount = 0;
+		int i = 0;
+		boolean unique = true;
+		while (i < str.length()) {
+			int cp = Character.codePointAt(str, i);
+			if (cp < 1 << 16) {
+				long bit = 1L << cp;
+				if ((bits[cp >>> 6] & bit) != 0) {
+					unique = false;
+					break;
+				}
+				bits[cp >>> 6] |= bit;
+			} else {
+				// Open addressing over supplementary code points; 0 marks an empty slot
+				if (sparse == null || sparseCount * 2 >= sparse.length)
+					sparse = growSparse(sparse);
+				int mask = sparse.length - 1;
+				int slot = _080_HashMix.mix32(cp) & mask;
+				while (sparse[slot] != 0 && sparse[slot] != cp)
+					slot = (slot + 1) & mask;
+				if (sparse[slot] == cp) {
+					unique = false;
+					break;
+				}
+				sparse[slot] = cp;
+				sparseCount++;
+			}
+			i += Character.charCount(cp);
+		}
+		for (int j = 0; j < i; j++)
+			bits[str.charAt(j) >>> 6] = 0;
+		return unique;
+	}
+
+	private static int[] growSparse(int[] old) {
+		int[] grown = new int[old == null ? 16 : old.length * 2];
+		if (old != null) {
+			for (int cp : old) {
+				if (cp == 0) continue;
+				int slot = _080_HashMix.mix32(cp) & (grown.length - 1);
+				while (grown[slot] != 0)
+					slot = (slot + 1) & (grown.length - 1);
+				grown[slot] = cp;
+			}
+		}
+		return grown;
+	}
+
+	static boolean _08_Dispatch(CharSequence str) {
+		// A quick OR over the chars picks the narrowest path that can answer
+		// Time: O(n)
+		// Space: O(1)
+
+		int seen = 0;
+		boolean surrogates = false;
+		for (int i = 0; i < str.length(); i++) {
+			char ch = str.charAt(i);
+			seen |= ch;
+			if (Character.isSurrogate(ch)) {
+				surrogates = true;
+				break;
+			}
+		}
+		if (surrogates)
+			return _07_UsingCodePoints(str);
+		if (seen < 128)
+			return _05_UsingAsciiBitmask(str);
+		return _06_UsingBmpBitset(str);
+	}
+}
@@ -22,6 +22,11 @@ public class _009_Set_findPairsFromTwoArrays {
 		for (int[] pair : result2) {
 			System.out.print(Arrays.toString(pair));
 		}
+
+		List<int[]> result3 = _03_UsingBloomFilter(arr1, arr2, target, 0.01);
+		for (int[] pair : result3) {
+			System.out.print(Arrays.toString(pair));
+		}
 	}
 
 	static List<int[]> _01_BFA(int[] arr1, int[] arr2, int target ) {
@@ -53,4 +58,22 @@ public class _009_Set_findPairsFromTwoArrays {
 		}
 		return pairs;
 	}
+
+	static List<int[]> _03_UsingBloomFilter(int[] arr1, int[] arr2, int target, double falsePositiveRate){
+		// Time Complexity: O(n + m), misses mostly answered by the filter without touching the set
+		// Space Complexity: O(n + m)
+
+		_059_BlockedBloomFilter filter = new _059_BlockedBloomFilter(Math.max(1, arr1.length), falsePositiveRate);
+		Set<Integer> hs = new HashSet<>();
+		List<int[]> pairs = new ArrayList<>();
+		for (int num : arr1) {
+			filter.add(num);
+			hs.add(num);
+		}
+		for (int num : arr2) {
+			if(filter.mightContain(target-num) && hs.contains(target-num))
+				pairs.add(new int[] {target-num, num});
+		}
+		return pairs;
+	}
 }
@@ -35,6 +35,20 @@ public class _010_Set_longestConsecutiveSequence {
 		return longestStreak;
 	}
 
+	public static int longestConsecutiveSequenceBitmap(int[] nums) {
+		// Time: O(n + range / 64)
+		// Space: O(range / 8) bytes, no boxing
+
+		return _060_ConsecutiveRunFinder.longestRun(nums);
+	}
+
+	public static int longestConsecutiveSequenceParallel(int[] nums) {
+		// Time: O((n + range / 64) / cores)
+		// Space: O(range / 8) bytes
+
+		return _060_ConsecutiveRunFinder.longestRunParallel(nums);
+	}
+
 	public static void main(String[] args) {
 		test("Consecutive Integers", new int[] { 1, 0, 3, 2, 5 }, 4);
 		test("No Sequence", new int[] { 1, 3, 5, 7, 9 }, 1);
@@ -49,7 +63,9 @@ public class _010_Set_longestConsecutiveSequence {
 
 	private static void test(String title, int[] nums, int expected) {
 		int result = longestConsecutiveSequence(nums);
-		String ok = result == expected ? "PASS" : "FAIL";
+		boolean same = longestConsecutiveSequenceBitmap(nums) == result
+				&& longestConsecutiveSequenceParallel(nums) == result;
+		String ok = result == expected && same ? "PASS" : "FAIL";
 		System.out.println(title + " -> " + result + " (expected " + expected + ") " + ok);
 	}
 
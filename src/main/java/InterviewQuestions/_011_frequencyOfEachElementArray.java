@@ -1,13 +1,18 @@
 package InterviewQuestions;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class _011_frequencyOfEachElementArray {
 
-	public static void main(String[] args) {
+	public static void main(String[] args) throws InterruptedException {
 		int[] arr = { 10, 20, 20, 10, 10, 20, 5, 20 }; // 10: 3, 20: 4, 5: 1
 		_01_BFA(arr);
 		System.out.println(_02_UsingHashMap(arr));
+		System.out.println(_03_UsingConcurrentCounter(arr, 4));
 	}
 
 	static void _01_BFA(int[] arr) {
@@ -38,4 +43,24 @@ public class _011_frequencyOfEachElementArray {
 				hm.put(i, hm.getOrDefault(i, 0)+1);
 		return hm;
 	}
+
+	static Map<Integer, Long> _03_UsingConcurrentCounter(int[] arr, int threads) throws InterruptedException {
+		// Time complexity: O(n / threads)
+		// Space complexity: O(k * stripes)
+
+		_058_ConcurrentFrequencyCounter counter = new _058_ConcurrentFrequencyCounter(threads);
+		ExecutorService pool = Executors.newFixedThreadPool(threads);
+		int chunk = (arr.length + threads - 1) / threads;
+		for (int from = 0; from < arr.length; from += chunk) {
+			int start = from, end = Math.min(arr.length, from + chunk);
+			pool.execute(() -> counter.addAll(arr, start, end));
+		}
+		pool.shutdown();
+		if (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+			// Returning now would hand back partial counts
+			pool.shutdownNow();
+			throw new IllegalStateException("counting did not finish within 1 minute");
+		}
+		return counter.toMap();
+	}
 }
@@ -1,9 +1,11 @@
 package InterviewQuestions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.IntStream;
 
 public class _012_duplicateElementsArray {
 
@@ -12,6 +14,9 @@ public class _012_duplicateElementsArray {
 		System.out.println(_01_BFA(arr));
 		System.out.println(_02_UsingHashMap(arr));
 		System.out.println(_03_UsingHashSet(arr));
+		System.out.println(Arrays.toString(_04_UsingSortAndScan(arr)));
+		System.out.println(Arrays.toString(_05_UsingParallelHashPartition(arr, 4)));
+		System.out.println(Arrays.toString(_06_AutoSelect(arr)));
 	}
 
 	static List<Integer> _01_BFA(int[] arr) {
@@ -61,4 +66,111 @@ public class _012_duplicateElementsArray {
 		}
 		return duplicates;
 	}
+
+	static int[] _04_UsingSortAndScan(int[] arr) {
+		// Time complexity: O(n log n)
+		// Space complexity: O(n) for the sorted copy, no hashing or boxing
+
+		int[] sorted = arr.clone();
+		Arrays.sort(sorted);
+		int[] duplicates = new int[sorted.length / 2];
+		int count = 0;
+		for (int i = 1; i < sorted.length; i++) {
+			// Report a value once, on the first repeat of its run
+			if (sorted[i] == sorted[i-1] && (i == 1 || sorted[i-2] != sorted[i]))
+				duplicates[count++] = sorted[i];
+		}
+		return Arrays.copyOf(duplicates, count);
+	}
+
+	static int[] _05_UsingParallelHashPartition(int[] arr, int workers) {
+		// Time complexity: O(n / workers)
+		// Space complexity: O(n)
+		// Values are routed to partitions by hash, so equal values always meet in the same partition
+
+		int chunks = Math.max(1, workers);
+		int partitions = Integer.highestOneBit(Math.max(1, chunks * 4 - 1)) << 1;
+		int mask = partitions - 1;
+		int chunkSize = (arr.length + chunks - 1) / chunks;
+
+		// Phase 1: per-chunk partition histograms
+		int[][] histogram = new int[chunks][partitions];
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] h = histogram[c];
+			for (int i = c * chunkSize, end = Math.min(arr.length, (c + 1) * chunkSize); i < end; i++)
+				h[_080_HashMix.mix32(arr[i]) & mask]++;
+		});
+
+		// Phase 2: exclusive prefix sums give every chunk its own write cursor inside each partition
+		int[] partitionStart = new int[partitions + 1];
+		int[][] cursor = new int[chunks][partitions];
+		int offset = 0;
+		for (int p = 0; p < partitions; p++) {
+			partitionStart[p] = offset;
+			for (int c = 0; c < chunks; c++) {
+				cursor[c][p] = offset;
+				offset += histogram[c][p];
+			}
+		}
+		partitionStart[partitions] = offset;
+
+		int[] scattered = new int[arr.length];
+		IntStream.range(0, chunks).parallel().forEach(c -> {
+			int[] cur = cursor[c];
+			for (int i = c * chunkSize, end = Math.min(arr.length, (c + 1) * chunkSize); i < end; i++)
+				scattered[cur[_080_HashMix.mix32(arr[i]) & mask]++] = arr[i];
+		});
+
+		// Phase 3: every partition is de-duplicated independently
+		int[][] found = new int[partitions][];
+		IntStream.range(0, partitions).parallel().forEach(p ->
+				found[p] = duplicatesInRange(scattered, partitionStart[p], partitionStart[p + 1]));
+
+		int total = 0;
+		for (int[] f : found)
+			total += f.length;
+		int[] duplicates = new int[total];
+		int pos = 0;
+		for (int[] f : found) {
+			System.arraycopy(f, 0, duplicates, pos, f.length);
+			pos += f.length;
+		}
+		return duplicates;
+	}
+
+	static final int PARALLEL_THRESHOLD = 1 << 20;
+
+	static int[] _06_AutoSelect(int[] arr) {
+		// Small inputs: sort-and-scan stays in cache and avoids thread hand-off
+		// Large inputs: spread the hashing across every core
+
+		int cores = Runtime.getRuntime().availableProcessors();
+		if (arr.length < PARALLEL_THRESHOLD || cores == 1)
+			return _04_UsingSortAndScan(arr);
+		return _05_UsingParallelHashPartition(arr, cores);
+	}
+
+	// Primitive open-addressing pass: state 1 = seen once, 2 = already reported
+	private static int[] duplicatesInRange(int[] values, int from, int to) {
+		int n = to - from;
+		int capacity = Integer.highestOneBit(Math.max(2, n * 2 - 1)) << 1;
+		int[] keys = new int[capacity];
+		byte[] state = new byte[capacity];
+		int[] duplicates = new int[n / 2];
+		int count = 0;
+		for (int i = from; i < to; i++) {
+			int v = values[i];
+			int slot = (int) (_080_HashMix.mix64(v) >>> 32) & (capacity - 1);
+			while (state[slot] != 0 && keys[slot] != v)
+				slot = (slot + 1) & (capacity - 1);
+			if (state[slot] == 0) {
+				keys[slot] = v;
+				state[slot] = 1;
+			} else if (state[slot] == 1) {
+				state[slot] = 2;
+				duplicates[count++] = v;
+			}
+		}
+		return Arrays.copyOf(duplicates, count);
+	}
 }
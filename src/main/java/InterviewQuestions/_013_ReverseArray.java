@@ -17,6 +17,9 @@ public class _013_ReverseArray {
 		
 		System.out.println();
 		Arrays.stream(_03_UsingTwoPointer(arr)).forEach(value-> System.out.print(value +" "));
+		
+		System.out.println();
+		Arrays.stream(_04_UsingRangeReverse(new int[] { 1, 2, 3, 4, 5 })).forEach(value-> System.out.print(value +" "));
 	}
 
 	static int[] _01_BFA(int[] arr) {
@@ -56,4 +59,12 @@ public class _013_ReverseArray {
 		}
 		return arr;
 	}
+	
+	static int[] _04_UsingRangeReverse(int[] arr) {
+		// Time complexity: O(n), swaps run in parallel chunks for very large arrays
+		// Space complexity: O(1)
+		
+		_079_ArrayReverser.reverse(arr, 0, arr.length);
+		return arr;
+	}
 }
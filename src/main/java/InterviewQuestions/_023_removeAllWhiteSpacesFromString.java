@@ -6,6 +6,7 @@ public class _023_removeAllWhiteSpacesFromString {
         System.out.println(_01_UsingReplace(str));
         System.out.println(_02_UsingReplaceAll(str));
         System.out.println(_03_UsingCharArray(str));
+        System.out.println(_04_UsingInPlaceStripper(str));
     }
 
     static String _01_UsingReplace(String str){
@@ -33,4 +34,13 @@ public class _023_removeAllWhiteSpacesFromString {
         }
         return sb.toString();
     }
+
+    static String _04_UsingInPlaceStripper(String str){
+        // Time Complexity: O(n)
+        // Space Complexity: O(n), one char[] copy compacted in place; strips all of \s like _02
+
+        char[] chars = str.toCharArray();
+        int n = _065_WhitespaceStripper.strip(chars, 0, chars.length, chars, 0);
+        return new String(chars, 0, n);
+    }
 }
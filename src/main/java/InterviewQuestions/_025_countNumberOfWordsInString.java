@@ -1,15 +1,23 @@
 package InterviewQuestions;
 
-import java.sql.Array;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.StringTokenizer;
 
 public class _025_countNumberOfWordsInString {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         String str = "    India Is My Country";
         System.out.println("Word Count using Spilt: " + _01_Using_Split_Array(str));
         System.out.println("Word Count using Stream: " + _02_UsingStream(str));
         System.out.println("Word Count using StringTokenizer: " + _03_UsingStringTokenizer(str));
+
+        Path file = Files.createTempFile("words", ".txt");
+        Files.write(file, str.getBytes(StandardCharsets.UTF_8));
+        System.out.println("Word Count using Mapped File: " + _04_UsingMappedFile(file));
+        Files.delete(file);
     }
 
     static int _01_Using_Split_Array(String str){
@@ -34,4 +42,11 @@ public class _025_countNumberOfWordsInString {
         StringTokenizer st = new StringTokenizer(str);
         return st.countTokens();
     }
+
+    static long _04_UsingMappedFile(Path file) throws IOException {
+        // Time Complexity: O(n / cores)
+        // Space Complexity: O(1) per chunk, no per-word objects
+
+        return _064_MappedWordCounter.countWords(file);
+    }
 }
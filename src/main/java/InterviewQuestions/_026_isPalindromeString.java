@@ -5,6 +5,7 @@ public class _026_isPalindromeString {
         String str1 = "Madam"; // true
         String str2 = "create"; // false
         String str3 = "A man a plan a canal Panama"; // true
+        String str4 = "No 'x' in Nixon"; // false: only whitespace is ignored, the quotes still count
 
         System.out.println(_01_BFA(str1));
         System.out.println(_01_BFA(str2));
@@ -13,6 +14,13 @@ public class _026_isPalindromeString {
         System.out.println(_02_Using_Two_Pointer_Technique(str1));
         System.out.println(_02_Using_Two_Pointer_Technique(str2));
         System.out.println(_02_Using_Two_Pointer_Technique(str3));
+
+        System.out.println(_03_Using_ZeroCopy_Two_Pointer(str1));
+        System.out.println(_03_Using_ZeroCopy_Two_Pointer(str2));
+        System.out.println(_03_Using_ZeroCopy_Two_Pointer(str3));
+
+        System.out.println(_02_Using_Two_Pointer_Technique(str4));
+        System.out.println(_03_Using_ZeroCopy_Two_Pointer(str4));
     }
 
     static boolean _01_BFA(String str){
@@ -39,4 +47,13 @@ public class _026_isPalindromeString {
         }
         return true;
     }
+
+    static boolean _03_Using_ZeroCopy_Two_Pointer(CharSequence str){
+        // Time Complexity: O(n)
+        // Space Complexity: O(1), skips whitespace and folds case in place instead of building new strings
+
+        // Same rule as _01/_02: only whitespace is dropped, punctuation is compared like any other char
+        return _063_PalindromeChecker.isPalindrome(str,
+                _063_PalindromeChecker.IGNORE_CASE | _063_PalindromeChecker.IGNORE_WHITESPACE);
+    }
 }
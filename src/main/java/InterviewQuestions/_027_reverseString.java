@@ -7,6 +7,7 @@ public class _027_reverseString {
         String str = "Geeks"; // skeeG
         System.out.println(_01_BFA(str));
         System.out.println(_02_Using_Stack(str));
+        System.out.println(_03_Using_CharArray(str));
     }
 
     static String _01_BFA(String str){
@@ -33,4 +34,13 @@ public class _027_reverseString {
             reverse.append(st.pop());
         return reverse;
     }
+
+    static String _03_Using_CharArray(String str){
+        // Time Complexity: O(n), single pass
+        // Space Complexity: O(n), keeps surrogate pairs (e.g. emoji) intact
+
+        char[] reverse = new char[str.length()];
+        _069_StringReverser.reverse(str, 0, str.length(), reverse, 0);
+        return new String(reverse);
+    }
 }
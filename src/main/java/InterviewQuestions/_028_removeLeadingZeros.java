@@ -13,6 +13,15 @@ public class _028_removeLeadingZeros {
 
         System.out.println(_03_Using_RegX(str1));
         System.out.println(_03_Using_RegX(str2));
+
+        System.out.println(_04_Using_Precompiled_RegX(str1));
+        System.out.println(_04_Using_Precompiled_RegX(str2));
+
+        System.out.println(_05_Using_View(str1));
+        System.out.println(_05_Using_View(str2));
+
+        System.out.println(_06_Using_Scanner(str1));
+        System.out.println(_06_Using_Scanner(str2));
     }
 
     static StringBuilder _01_BFA(String str){
@@ -50,4 +59,28 @@ public class _028_removeLeadingZeros {
 
         return str.replaceFirst("^0+", "");
     }
+
+    static String _04_Using_Precompiled_RegX(String str) {
+        // Time Complexity: O(n)
+        // Space Complexity: O(n), no Pattern compiled per call
+
+        return _067_PatternCache.matcher(_067_PatternCache.LEADING_ZEROS, str).replaceFirst("");
+    }
+
+    static CharSequence _05_Using_View(CharSequence str) {
+        // Time Complexity: O(number of leading zeros)
+        // Space Complexity: O(1), a view over str instead of a copy
+
+        return _068_ZeroTrimmer.view(str, _068_ZeroTrimmer.LEADING);
+    }
+
+    static String _06_Using_Scanner(String str) {
+        // Time Complexity: O(n)
+        // Space Complexity: O(n), same result as the "^0+" regex versions: "000" becomes ""
+
+        int start = 0;
+        while (start < str.length() && str.charAt(start) == '0')
+            start++;
+        return str.substring(start);
+    }
 }
@@ -7,6 +7,9 @@ public class _029_removeTrailingZeros {
 
         System.out.println(_01_Using_subString(str1));
         System.out.println(_01_Using_subString(str2));
+
+        System.out.println(_02_Using_View(str1));
+        System.out.println(_02_Using_View(str2));
     }
 
     static String _01_Using_subString(String str){
@@ -22,4 +25,11 @@ public class _029_removeTrailingZeros {
         }
         return str.substring(0, last+1);
     }
+
+    static CharSequence _02_Using_View(CharSequence str){
+        // Time Complexity: O(number of trailing zeros)
+        // Space Complexity: O(1), a view over str instead of a copy
+
+        return _068_ZeroTrimmer.view(str, _068_ZeroTrimmer.TRAILING);
+    }
 }
@@ -13,6 +13,15 @@ public class _030_removeLeading_And_Trailing_Zeros {
 
         System.out.println(_03_Using_RegX(str1));
         System.out.println(_03_Using_RegX(str2));
+
+        System.out.println(_04_Using_Precompiled_RegX(str1));
+        System.out.println(_04_Using_Precompiled_RegX(str2));
+
+        System.out.println(_05_Using_View(str1));
+        System.out.println(_05_Using_View(str2));
+
+        System.out.println(_06_Using_Scanner(str1));
+        System.out.println(_06_Using_Scanner(str2));
     }
 
     static String _01_Using_subString(String str) {
@@ -58,4 +67,31 @@ public class _030_removeLeading_And_Trailing_Zeros {
 
         return str.replaceAll("^0+|0+$", "");
     }
+
+    static String _04_Using_Precompiled_RegX(String str){
+        // Time Complexity: O(n)
+        // Space Complexity: O(n), no Pattern compiled per call
+
+        return _067_PatternCache.matcher(_067_PatternCache.LEADING_OR_TRAILING_ZEROS, str).replaceAll("");
+    }
+
+    static CharSequence _05_Using_View(CharSequence str){
+        // Time Complexity: O(number of leading + trailing zeros)
+        // Space Complexity: O(1), a view over str instead of a copy
+
+        return _068_ZeroTrimmer.view(str, _068_ZeroTrimmer.BOTH);
+    }
+
+    static String _06_Using_Scanner(String str){
+        // Time Complexity: O(n)
+        // Space Complexity: O(n), same result as the "^0+|0+$" regex versions: "000" becomes ""
+
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) == '0')
+            start++;
+        while (end > start && str.charAt(end - 1) == '0')
+            end--;
+        return str.substring(start, end);
+    }
 }
@@ -12,6 +12,10 @@ public class _032_longestSubstringWithoutRepeatingCharacters {
         System.out.println(_01_Using_HashMap(str1)); // 6
         System.out.println(_01_Using_HashMap(str2)); // 2
         System.out.println(_01_Using_HashMap(str3)); // 2
+
+        System.out.println(_02_Using_LastSeenArray(str1)); // 6
+        System.out.println(_02_Using_LastSeenArray(str2)); // 2
+        System.out.println(_02_Using_LastSeenArray(str3)); // 2
     }
 
     static int _01_Using_HashMap(String str) {
@@ -30,4 +34,13 @@ public class _032_longestSubstringWithoutRepeatingCharacters {
         }
         return maxLen;
     }
+
+    static int _02_Using_LastSeenArray(String str) {
+        // Time complexity: O(n)
+        // Space complexity: O(1) for Latin-1, O(k) for other distinct code points
+
+        _066_LongestUniqueWindow window = new _066_LongestUniqueWindow();
+        window.feed(str.toCharArray(), 0, str.length());
+        return (int) window.bestLength();
+    }
 }
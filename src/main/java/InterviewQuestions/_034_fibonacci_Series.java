@@ -1,12 +1,16 @@
 package InterviewQuestions;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class _034_fibonacci_Series {
     public static void main(String[] args) {
         int num = 6; // 0,1,1,2,3,5
-        System.out.print(_01_BFA(num));
+        System.out.println(_01_BFA(num));
+        System.out.println(Arrays.toString(_02_Using_PrimitiveSeries(num)));
+        System.out.println(_03_Using_FastDoubling(100)); // 354224848179261915075
     }
 
     static List<Integer> _01_BFA(int num){
@@ -27,4 +31,18 @@ public class _034_fibonacci_Series {
         }
         return fib;
     }
-}
\ No newline at end of file
+
+    static long[] _02_Using_PrimitiveSeries(int num){
+        // Time complexity: O(n)
+        // Space complexity: O(n), unboxed and exact up to fib(92)
+
+        return _071_Fibonacci.series(num);
+    }
+
+    static BigInteger _03_Using_FastDoubling(int n){
+        // Time complexity: O(log n) big-number squarings
+        // Space complexity: O(n) bits for the result
+
+        return _071_Fibonacci.fib(n);
+    }
+}
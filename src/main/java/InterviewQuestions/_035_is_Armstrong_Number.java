@@ -1,5 +1,7 @@
 package InterviewQuestions;
 
+import java.util.Arrays;
+
 import static java.lang.System.*;
 
 public class _035_is_Armstrong_Number {
@@ -15,6 +17,12 @@ public class _035_is_Armstrong_Number {
         System.out.println(_01_BFA(num1));
         System.out.println(_01_BFA(num2));
         System.out.println(_01_BFA(num3));
+
+        System.out.println(_02_Using_IntegerPowers(num1));
+        System.out.println(_02_Using_IntegerPowers(num2));
+        System.out.println(_02_Using_IntegerPowers(num3));
+
+        System.out.println(Arrays.toString(_03_findInRange(1, 10_000_000)));
     }
 
     static boolean _01_BFA(int num){
@@ -31,4 +39,18 @@ public class _035_is_Armstrong_Number {
         }
         return originalNum == sum;
     }
+
+    static boolean _02_Using_IntegerPowers(long num){
+        // Time complexity: O(d)
+        // Space complexity: O(1), exact long power table instead of Math.pow
+
+        return _072_ArmstrongSearch.isArmstrong(num);
+    }
+
+    static long[] _03_findInRange(long lo, long hi){
+        // Time complexity: O((hi - lo) / cores), O(1) amortized per number via the odometer step
+        // Space complexity: O(results)
+
+        return _072_ArmstrongSearch.find(lo, hi).toArray();
+    }
 }
@@ -1,5 +1,7 @@
 package InterviewQuestions;
 
+import java.util.Arrays;
+
 public class _036_sum_Of_Digits_Given_Number {
     public static void main(String[] args) {
         int num1 = 123; // 6
@@ -7,6 +9,7 @@ public class _036_sum_Of_Digits_Given_Number {
 
         System.out.println(_01_BFA(num1));
         System.out.println(_01_BFA(num2));
+        System.out.println(Arrays.toString(_02_Using_LookupTable(new int[]{num1, num2, -456}))); // [6, 15, 15]
     }
 
     static int _01_BFA(int num){
@@ -21,4 +24,14 @@ public class _036_sum_Of_Digits_Given_Number {
         }
         return sum;
     }
+
+    static int[] _02_Using_LookupTable(int[] nums){
+        // Time complexity: O(n * d / 4), four digits per table lookup, parallel chunks for large columns
+        // Space complexity: O(n) output
+
+        // Sums the digits of |num|, so negative inputs give a positive sum
+        int[] sums = new int[nums.length];
+        _073_DigitKernels.digitSums(nums, sums);
+        return sums;
+    }
 }
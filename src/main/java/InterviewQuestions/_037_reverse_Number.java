@@ -1,11 +1,16 @@
 package InterviewQuestions;
 
+import java.util.Arrays;
+
 public class _037_reverse_Number {
     public static void main(String[] args) {
         int num1 = 456; // 654
         int num2 = 899; // 998
         System.out.println(_01_BFA(num1));
         System.out.println(_01_BFA(num2));
+        boolean[] overflow = new boolean[3];
+        System.out.println(Arrays.toString(_02_Using_LookupTable(new int[]{num1, num2, 1_000_000_003}, overflow))); // [654, 998, 0]
+        System.out.println(Arrays.toString(overflow)); // [false, false, true]: 3000000001 overflows int
     }
 
     static int _01_BFA(int num){
@@ -20,4 +25,15 @@ public class _037_reverse_Number {
         }
         return reverseNum;
     }
+
+    static int[] _02_Using_LookupTable(int[] nums, boolean[] overflow){
+        // Time complexity: O(n * d / 4), four digits per table lookup, parallel chunks for large columns
+        // Space complexity: O(n) output
+
+        // Unlike _01_BFA, a reversal that does not fit in an int is not wrapped:
+        // its slot is 0 and overflow[i] is set, so it cannot be mistaken for a real 0
+        int[] reversed = new int[nums.length];
+        _073_DigitKernels.reverseAll(nums, reversed, overflow);
+        return reversed;
+    }
 }
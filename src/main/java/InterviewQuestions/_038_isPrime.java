@@ -9,6 +9,10 @@ public class _038_isPrime {
         System.out.println(_01_BFA(num1));
         System.out.println(_01_BFA(num2));
         System.out.println(_01_BFA(num3));
+
+        System.out.println(_02_Using_MillerRabin(num2));
+        System.out.println(_02_Using_MillerRabin(1_000_000_000_000_000_003L)); // true
+        System.out.println(_03_countPrimesInRange(1, 1_000_000)); // 78498
     }
 
     static boolean _01_BFA(int num){
@@ -23,4 +27,18 @@ public class _038_isPrime {
             if (num % i == 0) return false;
         return true;
     }
+
+    static boolean _02_Using_MillerRabin(long num){
+        // Time complexity: O(log n) modular multiplications
+        // Space complexity: O(1)
+
+        return _070_PrimeEngine.isPrime(num);
+    }
+
+    static long _03_countPrimesInRange(long lo, long hi){
+        // Time complexity: O((hi - lo) log log hi / cores)
+        // Space complexity: O(sqrt(hi)) shared base primes + 32 KB per worker
+
+        return _070_PrimeEngine.countPrimesParallel(lo, hi);
+    }
 }
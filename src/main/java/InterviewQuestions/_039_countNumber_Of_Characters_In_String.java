@@ -1,12 +1,14 @@
 package InterviewQuestions;
 
-import java.util.Arrays;
+import java.util.regex.Matcher;
 
 public class _039_countNumber_Of_Characters_In_String {
     public static void main(String[] args) {
         String str = "The best of both worlds"; // 19
         System.out.println(_01_BFA(str));
         System.out.println(_02_UsingReplaceAll(str));
+        System.out.println(_03_Using_Precompiled_RegX(str));
+        System.out.println(_04_Using_Scanner(str));
     }
 
     static int _01_BFA(String str){
@@ -27,4 +29,27 @@ public class _039_countNumber_Of_Characters_In_String {
 
         return str.replaceAll("\\s", "").length();
     }
+
+    static int _03_Using_Precompiled_RegX (String str) {
+        // Time complexity: O(n)
+        // Space complexity: O(1), counts matches instead of building the stripped string
+
+        Matcher match = _067_PatternCache.matcher(_067_PatternCache.WHITESPACE, str);
+        int whitespace = 0;
+        while (match.find())
+            whitespace++;
+        return str.length() - whitespace;
+    }
+
+    static int _04_Using_Scanner (String str) {
+        // Time complexity: O(n)
+        // Space complexity: O(1), same \s set as the regex versions
+
+        int count = 0;
+        for (int i = 0; i < str.length(); i++) {
+            if (!_065_WhitespaceStripper.isWhitespace(str.charAt(i)))
+                count++;
+        }
+        return count;
+    }
 }
@@ -1,12 +1,14 @@
 package InterviewQuestions;
 
 import java.util.HashSet;
+import java.util.stream.IntStream;
 
 public class _040_duplicatesInString {
     public static void main(String[] args) {
         String str = "Great responsib ility"; // r e t s i
         System.out.println(_01_BFA(str));
         System.out.println(_02_UsingHashSet(str));
+        System.out.println(_03_UsingConcurrentCounter(str));
     }
 
     static HashSet<Character> _01_BFA (String str) {
@@ -39,4 +41,21 @@ public class _040_duplicatesInString {
         }
         return duplicates;
     }
+
+    static HashSet<Character> _03_UsingConcurrentCounter (String str) {
+        // Time complexity: O(n / cores)
+        // Space complexity: O(k * stripes)
+
+        _058_ConcurrentFrequencyCounter counter = new _058_ConcurrentFrequencyCounter();
+        int chunk = 1 << 16;
+        IntStream.range(0, (str.length() + chunk - 1) / chunk).parallel()
+                .forEach(c -> counter.addAll(str, c * chunk, Math.min(str.length(), (c + 1) * chunk)));
+
+        HashSet<Character> duplicates = new HashSet<>();
+        counter.toMap().forEach((ch, count) -> {
+            if (ch != ' ' && count > 1)
+                duplicates.add((char) (int) ch);
+        });
+        return duplicates;
+    }
 }
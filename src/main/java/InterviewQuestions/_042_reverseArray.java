@@ -12,6 +12,9 @@ public class _042_reverseArray {
 
         char[] arr3 = { 'a', 'b', 'c', 'd', 'e' }; // e d c b a
         System.out.println(_03_Using_Stack(arr3));
+
+        char[] arr4 = { 'a', 'b', 'c', 'd', 'e' }; // e d c b a
+        System.out.println(_04_Using_RangeReverse(arr4));
     }
 
     static char[] _01_BFA (char[] arr) {
@@ -54,4 +57,12 @@ public class _042_reverseArray {
         }
         return reverse;
     }
+
+    static char[] _04_Using_RangeReverse (char[] arr) {
+        // Time complexity: O(n)
+        // Space complexity: O(1), no boxing into Stack<Character>
+
+        _079_ArrayReverser.reverse(arr, 0, arr.length);
+        return arr;
+    }
 }
@@ -13,6 +13,12 @@ public class _043_countCapitalizedWordsInString {
         System.out.println(_02_Using_RegX(str1));
         System.out.println(_02_Using_RegX(str2));
 
+        System.out.println(_03_Using_Precompiled_RegX(str1));
+        System.out.println(_03_Using_Precompiled_RegX(str2));
+
+        System.out.println(_04_Using_Scanner(str1));
+        System.out.println(_04_Using_Scanner(str2));
+
     }
 
     static int _01_BFA (String str) {
@@ -38,4 +44,28 @@ public class _043_countCapitalizedWordsInString {
             count++;
         return count;
     }
+
+    static int _03_Using_Precompiled_RegX (String str) {
+        // Time complexity: O(n)
+        // Space complexity: O(1), shared Pattern and per-thread Matcher
+
+        Matcher match = _067_PatternCache.matcher(_067_PatternCache.ASCII_UPPERCASE, str);
+        int count = 0;
+        while (match.find())
+            count++;
+        return count;
+    }
+
+    static int _04_Using_Scanner (String str) {
+        // Time complexity: O(n)
+        // Space complexity: O(1), same [A-Z] set as the regex versions
+
+        int count = 0;
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+            if (ch >= 'A' && ch <= 'Z')
+                count++;
+        }
+        return count;
+    }
 }
@@ -8,6 +8,7 @@ public class _044_longestConsecutiveOccurrenceOfIntegersInArray {
         int[] arr = {4, 3, 25, 6, 7, 8, 9, 2, 3, 10}; // 5
         System.out.println(_01_BFA(arr));
         System.out.println(_02_UsingHashSet(arr));
+        System.out.println(_03_UsingBitmap(arr));
     }
 
     static int _01_BFA(int[] arr) {
@@ -51,4 +52,11 @@ public class _044_longestConsecutiveOccurrenceOfIntegersInArray {
         }
         return longestStreak;
     }
+
+    static int _03_UsingBitmap (int[] arr) {
+        // Time: O(n + range / 64)
+        // Space: O(range / 8) bytes
+
+        return _060_ConsecutiveRunFinder.longestRun(arr);
+    }
 }
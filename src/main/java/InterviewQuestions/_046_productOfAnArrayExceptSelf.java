@@ -6,6 +6,7 @@ public class _046_productOfAnArrayExceptSelf {
     public static void main(String[] args) {
         int[] arr = {10, 3, 5, 6, 2}; // Output: prod[] = {180, 600, 360, 300, 900}
         System.out.println(Arrays.toString(_01_BFA(arr)));
+        System.out.println(Arrays.toString(_02_Using_PrefixSuffixScan(arr, new long[arr.length])));
     }
 
     static int[] _01_BFA(int[] arr){
@@ -23,4 +24,13 @@ public class _046_productOfAnArrayExceptSelf {
         }
         return prod;
     }
+
+    static long[] _02_Using_PrefixSuffixScan(int[] arr, long[] prod){
+        // Time Complexity: O(n), no division; prefix/suffix scans run per block in parallel for large arrays
+        // Space Complexity: O(1) extra, results go into the caller's prod[] (reuse it across calls)
+
+        // long results; ArithmeticException instead of silent wrap-around when a product overflows
+        _074_ProductExceptSelf.productExceptSelf(arr, prod);
+        return prod;
+    }
 }
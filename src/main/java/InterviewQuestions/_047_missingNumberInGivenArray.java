@@ -1,13 +1,28 @@
 package InterviewQuestions;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashSet;
 
 public class _047_missingNumberInGivenArray {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         int[] arr = {1, 2, 3, 5, 6}; // 4
         System.out.println(_01_BFA(arr));
         System.out.println(_02_Using_HashSet(arr));
+        System.out.println(_03_Using_StreamingXor(asStream(arr), arr.length + 1));
+        System.out.println(Arrays.toString(_04_Using_StreamingBitmap(asStream(arr), 8))); // [4, 7, 8]
+    }
+
+    // Same ints as raw big-endian bytes, the format a file or socket would carry
+    static InputStream asStream(int[] arr){
+        ByteBuffer bytes = ByteBuffer.allocate(arr.length * 4);
+        for (int num : arr)
+            bytes.putInt(num);
+        return new ByteArrayInputStream(bytes.array());
     }
 
     static int _01_BFA( int[] arr ){
@@ -35,4 +50,18 @@ public class _047_missingNumberInGivenArray {
         }
         return 0;
     }
+
+    static int _03_Using_StreamingXor(InputStream in, int n) throws IOException {
+        // Time Complexity: O(n), one pass over the stream
+        // Space Complexity: O(1), nothing is kept but a running XOR, sum and count
+
+        return _075_MissingNumberFinder.findOne(in, 1, n);
+    }
+
+    static int[] _04_Using_StreamingBitmap(InputStream in, int n) throws IOException {
+        // Time Complexity: O(n), one pass over the stream
+        // Space Complexity: O(n / 64) longs of bitmap; finds every missing number, not just one
+
+        return _075_MissingNumberFinder.findMissing(in, 1, n);
+    }
 }
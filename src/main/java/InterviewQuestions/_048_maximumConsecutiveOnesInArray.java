@@ -4,6 +4,7 @@ public class _048_maximumConsecutiveOnesInArray {
     public static void main(String[] args) {
         int[] arr = { 1, 1, 0, 0, 1, 1, 1, 0, 0, 1, 1, 1, 1, 1 }; // 5
         System.out.println(_01_BFA(arr));
+        System.out.println(_02_Using_PackedBitset(arr));
     }
 
     static int _01_BFA(int[] arr){
@@ -21,4 +22,11 @@ public class _048_maximumConsecutiveOnesInArray {
         }
         return maxCount;
     }
+
+    static long _02_Using_PackedBitset(int[] arr){
+        // Time Complexity: O(n / 64) for the run scan once packed; full and empty words are skipped whole
+        // Space Complexity: O(n / 64) longs, one bit per flag instead of 32
+
+        return _076_PackedBitset.fromFlags(arr).longestRunParallel();
+    }
 }
@@ -8,6 +8,8 @@ public class _049_first_LastPositionOfNumberInArray {
         int target = 8; // Output: [3, 4]
         System.out.println(Arrays.toString(_01_BFA(arr, target)));
         System.out.println(Arrays.toString(_02_UsingLinearIteration(arr, target)));
+        System.out.println(Arrays.toString(_03_UsingBranchlessBinarySearch(arr, target)));
+        System.out.println(Arrays.deepToString(_04_UsingEytzingerIndex(arr, new int[]{target, 7, 9}))); // [[3, 4], [1, 2], [-1, -1]]
     }
 
     static int[] _01_BFA(int[] arr, int target){
@@ -39,4 +41,24 @@ public class _049_first_LastPositionOfNumberInArray {
         }
         return new int[]{first, last};
     }
+
+    static int[] _03_UsingBranchlessBinarySearch(int[] arr, int target) {
+        // Time Complexity: O(log n), arr must be sorted
+        // Space Complexity: O(1)
+
+        return _077_SortedIntIndex.range(arr, target);
+    }
+
+    static int[][] _04_UsingEytzingerIndex(int[] arr, int[] targets) {
+        // Time Complexity: O(n) once to build the index, then O(log n) per target, answered in batches
+        // Space Complexity: O(n) for the BFS-ordered copy; keep the index when the same array is queried repeatedly
+
+        _077_SortedIntIndex index = new _077_SortedIntIndex(arr);
+        int[] first = new int[targets.length], last = new int[targets.length];
+        index.ranges(targets, first, last);
+        int[][] result = new int[targets.length][];
+        for (int i = 0; i < targets.length; i++)
+            result[i] = new int[]{first[i], last[i]};
+        return result;
+    }
 }
@@ -9,6 +9,7 @@ public class _052_shiftAllZerosOnLeft {
 
         System.out.println(Arrays.toString(_01_BFA(arr1)));
         System.out.println(Arrays.toString(_02_Using_InPlaceApproach(arr2)));
+        System.out.println(Arrays.toString(_03_Using_BlockCompaction(new int[]{1, 0, 2, 0, 3, 0, 0, 0}))); // 0, 0, 0, 0, 0, 1, 2, 3
     }
 
     static int[] _01_BFA (int[] arr){
@@ -37,4 +38,12 @@ public class _052_shiftAllZerosOnLeft {
             arr[index--] = 0;
         return arr;
     }
+
+    static int[] _03_Using_BlockCompaction(int[] arr){
+        // Time Complexity: O(n), 64 elements per mask; all-kept blocks move with one arraycopy, all-zero blocks are skipped
+        // Space Complexity: O(1) for small arrays, O(n / 16384) kept counts when large arrays are compacted in parallel
+
+        _078_StablePartition.compactRight(arr, 0, arr.length, _078_StablePartition.NON_ZERO, 0);
+        return arr;
+    }
 }
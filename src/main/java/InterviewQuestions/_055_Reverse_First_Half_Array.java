@@ -16,6 +16,9 @@ public class _055_Reverse_First_Half_Array {
 
         System.out.println(Arrays.toString(_03_Using_Two_Pointer(arr1)));
         System.out.println(Arrays.toString(_03_Using_Two_Pointer(arr2)));
+
+        System.out.println(Arrays.toString(_04_Using_RangeReverse(new int[]{1, 2, 3, 4, 5, 6, 7}))); // [3, 2, 1, 4, 5, 6, 7]
+        System.out.println(Arrays.toString(_04_Using_RangeReverse(new int[]{1, 2, 3, 4, 5, 6}))); // [3, 2, 1, 4, 5, 6]
     }
 
     static int[] _01_BFA(int[] arr) {
@@ -64,4 +67,12 @@ public class _055_Reverse_First_Half_Array {
         }
         return arr;
     }
+
+    static int[] _04_Using_RangeReverse(int[] arr) {
+        // Time Complexity: O(n)
+        // Space Complexity: O(1)
+
+        _079_ArrayReverser.reverse(arr, 0, arr.length / 2);
+        return arr;
+    }
 }
@@ -16,6 +16,9 @@ public class _056_Reverse_Second_Half_Array {
 
         System.out.println(Arrays.toString(_03_Using_Two_Pointer(arr1)));
         System.out.println(Arrays.toString(_03_Using_Two_Pointer(arr2)));
+
+        System.out.println(Arrays.toString(_04_Using_RangeReverse(new int[]{1, 2, 3, 4, 5, 6, 7}))); // [1, 2, 3, 7, 6, 5, 4]
+        System.out.println(Arrays.toString(_04_Using_RangeReverse(new int[]{1, 2, 3, 4, 5, 6}))); // [1, 2, 3, 6, 5, 4]
     }
 
     static int[] _01_BFA(int[] arr) {
@@ -59,4 +62,12 @@ public class _056_Reverse_Second_Half_Array {
         }
         return arr;
     }
+
+    static int[] _04_Using_RangeReverse(int[] arr) {
+        // Time Complexity: O(n)
+        // Space Complexity: O(1)
+
+        _079_ArrayReverser.reverse(arr, arr.length / 2, arr.length);
+        return arr;
+    }
 }
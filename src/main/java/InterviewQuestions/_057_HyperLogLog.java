@@ -0,0 +1,199 @@
+package InterviewQuestions;
+
+import java.util.Arrays;
+
+/**
+ * HyperLogLog++ distinct-count sketch.
+ * Starts in a sparse mode (sorted int list at precision 25) and switches to a
+ * dense register array once the sparse list would outgrow it. Sketches with the
+ * same precision can be merged, so per-thread or per-file counts can be combined.
+ */
+public class _057_HyperLogLog {
+    public static void main(String[] args) {
+        _057_HyperLogLog hll = new _057_HyperLogLog(12); // 4 KB of registers
+        for (long i = 0; i < 1_000_000; i++)
+            hll.add(i % 250_000); // ~250000
+        System.out.println("Estimate: " + hll.cardinality());
+
+        _057_HyperLogLog a = new _057_HyperLogLog(14);
+        _057_HyperLogLog b = new _057_HyperLogLog(14);
+        for (long i = 0; i < 600; i++) a.add(i);
+        for (long i = 300; i < 900; i++) b.add(i);
+        a.merge(b);
+        System.out.println("Merged estimate: " + a.cardinality()); // ~900
+
+        // Merging into a sketch whose pending buffer pushes it past the sparse limit
+        _057_HyperLogLog small = new _057_HyperLogLog(4);
+        _057_HyperLogLog one = new _057_HyperLogLog(4);
+        for (long i = 0; i < 10; i++) small.add(i);
+        one.add(100L);
+        System.out.println("Promoted on merge: " + small.merge(one).cardinality()); // ~11
+
+        _057_HyperLogLog c = new _057_HyperLogLog(14);
+        for (long i = 0; i < 4000; i++) c.add(i);
+        c.cardinality();
+        for (long i = 4000; i < 4600; i++) c.add(i);
+        _057_HyperLogLog d = new _057_HyperLogLog(14);
+        d.add(-1L);
+        System.out.println("Promoted on merge: " + c.merge(d).cardinality()); // ~4601
+    }
+
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 18;
+    private static final int SPARSE_PRECISION = 25;
+
+    private final int p;
+    private final int m;
+
+    // Dense mode: one 6-bit rank per register, kept in a byte for simplicity
+    private byte[] registers;
+
+    // Sparse mode: sorted, de-duplicated (index' << 6 | rank') entries plus an unsorted insert buffer
+    private int[] sparse = new int[0];
+    private int[] buffer;
+    private int bufferSize;
+
+    public _057_HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION)
+            throw new IllegalArgumentException("precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        this.p = precision;
+        this.m = 1 << precision;
+        this.buffer = new int[Math.max(16, m >>> 4)];
+    }
+
+    public int precision() {
+        return p;
+    }
+
+    public boolean isSparse() {
+        return registers == null;
+    }
+
+    public void add(long value) {
+        addHash(_080_HashMix.mix64(value));
+    }
+
+    public void add(Object value) {
+        addHash(_080_HashMix.mix64(value.hashCode()));
+    }
+
+    void addHash(long hash) {
+        if (registers != null) {
+            int idx = (int) (hash >>> (64 - p));
+            byte rank = (byte) (Long.numberOfLeadingZeros((hash << p) | (1L << (p - 1))) + 1);
+            if (rank > registers[idx])
+                registers[idx] = rank;
+            return;
+        }
+        int idx = (int) (hash >>> (64 - SPARSE_PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << SPARSE_PRECISION) | (1L << (SPARSE_PRECISION - 1))) + 1;
+        buffer[bufferSize++] = (idx << 6) | rank;
+        if (bufferSize == buffer.length)
+            flushBuffer();
+    }
+
+    public long cardinality() {
+        if (registers == null) {
+            flushBuffer();
+            if (registers == null) {
+                // Linear counting at the sparse precision is accurate for small sets
+                double mPrime = 1 << SPARSE_PRECISION;
+                return Math.round(mPrime * Math.log(mPrime / (mPrime - sparse.length)));
+            }
+        }
+        double sum = 0;
+        int zeros = 0;
+        for (byte r : registers) {
+            sum += 1.0 / (1L << r);
+            if (r == 0) zeros++;
+        }
+        double estimate = alpha(m) * m * m / sum;
+        if (zeros > 0) {
+            // HLL++ swaps to linear counting below an empirical threshold; 2.5m is the classic cut-off
+            double linear = m * Math.log((double) m / zeros);
+            if (linear <= 2.5 * m)
+                return Math.round(linear);
+        }
+        return Math.round(estimate);
+    }
+
+    public _057_HyperLogLog merge(_057_HyperLogLog other) {
+        if (other.p != p)
+            throw new IllegalArgumentException("cannot merge sketches with precision " + p + " and " + other.p);
+        // Either flush can promote its sketch to dense, so decide the merge path only afterwards
+        other.flushBuffer();
+        flushBuffer();
+        if (registers == null && other.registers == null) {
+            sparse = mergeSorted(sparse, sparse.length, other.sparse, other.sparse.length);
+            if (sparse.length > m / 4)
+                toDense();
+            return this;
+        }
+        if (registers == null)
+            toDense();
+        if (other.registers != null) {
+            for (int i = 0; i < m; i++)
+                if (other.registers[i] > registers[i])
+                    registers[i] = other.registers[i];
+        } else {
+            for (int entry : other.sparse)
+                applySparseEntry(entry);
+        }
+        return this;
+    }
+
+    private void flushBuffer() {
+        if (registers != null || bufferSize == 0)
+            return;
+        Arrays.sort(buffer, 0, bufferSize);
+        sparse = mergeSorted(sparse, sparse.length, buffer, bufferSize);
+        bufferSize = 0;
+        // Sparse ints cost 4 bytes each against 1 byte per dense register
+        if (sparse.length > m / 4)
+            toDense();
+    }
+
+    private void toDense() {
+        flushBuffer();
+        registers = new byte[m];
+        for (int entry : sparse)
+            applySparseEntry(entry);
+        sparse = null;
+        buffer = null;
+    }
+
+    private void applySparseEntry(int entry) {
+        int idxPrime = entry >>> 6;
+        int extraBits = SPARSE_PRECISION - p;
+        int idx = idxPrime >>> extraBits;
+        int low = idxPrime & ((1 << extraBits) - 1);
+        int rank = low != 0
+                ? Integer.numberOfLeadingZeros(low) - (32 - extraBits) + 1
+                : extraBits + (entry & 0x3F);
+        if (rank > registers[idx])
+            registers[idx] = (byte) rank;
+    }
+
+    // Merges two sorted runs, keeping only the largest rank per sparse index
+    private static int[] mergeSorted(int[] a, int aLen, int[] b, int bLen) {
+        int[] out = new int[aLen + bLen];
+        int i = 0, j = 0, n = 0;
+        while (i < aLen || j < bLen) {
+            int next;
+            if (j >= bLen || (i < aLen && a[i] <= b[j])) next = a[i++];
+            else next = b[j++];
+            if (n > 0 && (out[n - 1] >>> 6) == (next >>> 6))
+                out[n - 1] = Math.max(out[n - 1], next);
+            else
+                out[n++] = next;
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    private static double alpha(int m) {
+        if (m == 16) return 0.673;
+        if (m == 32) return 0.697;
+        if (m == 64) return 0.709;
+        return 0.7213 / (1 + 1.079 / m);
+    }
+}
@@ -0,0 +1,223 @@
+package InterviewQuestions;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Frequency counter for int (and char) keys that many threads can feed at once.
+ * Every thread is pinned to one of several stripes, and each stripe owns a primitive
+ * open-addressing table with its own lock, so writers rarely meet and there is no global lock.
+ * Reads merge the stripes one at a time.
+ */
+public class _058_ConcurrentFrequencyCounter {
+    public static void main(String[] args) throws InterruptedException {
+        _058_ConcurrentFrequencyCounter counter = new _058_ConcurrentFrequencyCounter();
+        int[] arr = { 10, 20, 20, 10, 10, 20, 5, 20 };
+        counter.addAll(arr, 0, arr.length);
+        System.out.println(counter.toMap()); // {20=4, 5=1, 10=3}
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        int perThread = 2_000_000;
+        System.out.println("Threads: " + threads);
+        System.out.println("Per element, ConcurrentHashMap.merge: " + benchmarkConcurrentHashMap(threads, perThread) + " ms");
+        System.out.println("Per element, striped increment:       " + benchmarkStriped(threads, perThread) + " ms");
+        System.out.println("Batched, ConcurrentHashMap.merge:     " + benchmarkConcurrentHashMapBatched(threads, perThread) + " ms");
+        System.out.println("Batched, striped addAll:              " + benchmarkStripedBatched(threads, perThread) + " ms");
+    }
+
+    private static final AtomicInteger NEXT_STRIPE = new AtomicInteger();
+    private static final ThreadLocal<Integer> THREAD_STRIPE =
+            ThreadLocal.withInitial(NEXT_STRIPE::getAndIncrement);
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public _058_ConcurrentFrequencyCounter() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    public _058_ConcurrentFrequencyCounter(int concurrency) {
+        int n = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+        stripes = new Stripe[n];
+        for (int i = 0; i < n; i++)
+            stripes[i] = new Stripe();
+        mask = n - 1;
+    }
+
+    public void increment(int key) {
+        add(key, 1);
+    }
+
+    public void increment(char key) {
+        add(key, 1);
+    }
+
+    public void add(int key, long delta) {
+        if (delta <= 0)
+            throw new IllegalArgumentException("delta must be positive: " + delta);
+        Stripe s = myStripe();
+        synchronized (s) {
+            s.add(key, delta);
+        }
+    }
+
+    // Counts a whole slice under a single stripe acquisition
+    public void addAll(int[] arr, int from, int to) {
+        Stripe s = myStripe();
+        synchronized (s) {
+            for (int i = from; i < to; i++)
+                s.add(arr[i], 1);
+        }
+    }
+
+    public void addAll(CharSequence text, int from, int to) {
+        Stripe s = myStripe();
+        synchronized (s) {
+            for (int i = from; i < to; i++)
+                s.add(text.charAt(i), 1);
+        }
+    }
+
+    public long get(int key) {
+        long total = 0;
+        for (Stripe s : stripes) {
+            synchronized (s) {
+                total += s.get(key);
+            }
+        }
+        return total;
+    }
+
+    public Map<Integer, Long> toMap() {
+        Map<Integer, Long> merged = new HashMap<>();
+        for (Stripe s : stripes) {
+            synchronized (s) {
+                for (int i = 0; i < s.keys.length; i++) {
+                    if (s.counts[i] != 0)
+                        merged.merge(s.keys[i], s.counts[i], Long::sum);
+                }
+            }
+        }
+        return merged;
+    }
+
+    private Stripe myStripe() {
+        return stripes[THREAD_STRIPE.get() & mask];
+    }
+
+    // Open-addressing int -> long table; a zero count marks an empty slot
+    private static final class Stripe {
+        int[] keys = new int[64];
+        long[] counts = new long[64];
+        int size;
+
+        void add(int key, long delta) {
+            int m = keys.length - 1;
+            int i = _080_HashMix.mix32(key) & m;
+            while (counts[i] != 0) {
+                if (keys[i] == key) {
+                    counts[i] += delta;
+                    return;
+                }
+                i = (i + 1) & m;
+            }
+            keys[i] = key;
+            counts[i] = delta;
+            if (++size * 4 > keys.length * 3)
+                resize();
+        }
+
+        long get(int key) {
+            int m = keys.length - 1;
+            int i = _080_HashMix.mix32(key) & m;
+            while (counts[i] != 0) {
+                if (keys[i] == key)
+                    return counts[i];
+                i = (i + 1) & m;
+            }
+            return 0;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            long[] oldCounts = counts;
+            keys = new int[oldKeys.length * 2];
+            counts = new long[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++)
+                if (oldCounts[i] != 0)
+                    add(oldKeys[i], oldCounts[i]);
+        }
+    }
+
+    private static final int BENCH_BATCH = 1024;
+
+    // Plain wall-clock contention check: every thread hammers the same small key space.
+    // The per-element pair pays one map/stripe operation per key on both sides; the batched pair
+    // lets both sides count 1024 keys locally first and then publish them in one go.
+    static long benchmarkConcurrentHashMap(int threads, int perThread) throws InterruptedException {
+        ConcurrentHashMap<Integer, Long> chm = new ConcurrentHashMap<>();
+        return runThreads(threads, t -> {
+            for (int i = 0; i < perThread; i++)
+                chm.merge(i & 1023, 1L, Long::sum);
+        });
+    }
+
+    static long benchmarkStriped(int threads, int perThread) throws InterruptedException {
+        _058_ConcurrentFrequencyCounter counter = new _058_ConcurrentFrequencyCounter(threads * 2);
+        return runThreads(threads, t -> {
+            for (int i = 0; i < perThread; i++)
+                counter.increment(i & 1023);
+        });
+    }
+
+    static long benchmarkConcurrentHashMapBatched(int threads, int perThread) throws InterruptedException {
+        ConcurrentHashMap<Integer, Long> chm = new ConcurrentHashMap<>();
+        return runThreads(threads, t -> {
+            long[] local = new long[1024];
+            for (int i = 0; i < perThread; i += BENCH_BATCH) {
+                for (int j = i, end = Math.min(perThread, i + BENCH_BATCH); j < end; j++)
+                    local[j & 1023]++;
+                for (int key = 0; key < local.length; key++) {
+                    if (local[key] != 0) {
+                        chm.merge(key, local[key], Long::sum);
+                        local[key] = 0;
+                    }
+                }
+            }
+        });
+    }
+
+    static long benchmarkStripedBatched(int threads, int perThread) throws InterruptedException {
+        _058_ConcurrentFrequencyCounter counter = new _058_ConcurrentFrequencyCounter(threads * 2);
+        return runThreads(threads, t -> {
+            int[] batch = new int[BENCH_BATCH];
+            for (int i = 0; i < perThread; i += batch.length) {
+                for (int j = 0; j < batch.length; j++)
+                    batch[j] = (i + j) & 1023;
+                counter.addAll(batch, 0, Math.min(batch.length, perThread - i));
+            }
+        });
+    }
+
+    private static long runThreads(int threads, IntConsumer work) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            pool.execute(() -> work.accept(id));
+        }
+        pool.shutdown();
+        if (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+            pool.shutdownNow();
+            throw new IllegalStateException("benchmark did not finish within 1 minute");
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,120 @@
+package InterviewQuestions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Blocked Bloom filter for int keys.
+ * Every key maps to a single 64-byte block (one cache line) and sets/tests all of its
+ * bits inside that block, so a probe touches one line of memory.
+ *
+ * Serialized layout (big-endian): int magic, int k, int blockCount, then blockCount * 8 longs.
+ */
+public class _059_BlockedBloomFilter {
+    public static void main(String[] args) throws IOException {
+        _059_BlockedBloomFilter filter = new _059_BlockedBloomFilter(1_000_000, 0.01);
+        for (int i = 0; i < 1_000_000; i++)
+            filter.add(i * 2);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 1_000_000; i++)
+            if (filter.mightContain(i * 2 + 1)) falsePositives++;
+        System.out.println("False positive rate: " + falsePositives / 1_000_000.0); // ~0.01
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        filter.writeTo(new DataOutputStream(bytes));
+        _059_BlockedBloomFilter copy = readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        System.out.println("Round trip: " + copy.mightContain(42)); // true
+    }
+
+    private static final int MAGIC = 0x424C4246; // "BLBF"
+    private static final int WORDS_PER_BLOCK = 8; // 8 * 64 bits = one 64-byte cache line
+
+    private final long[] bits;
+    private final int blockCount;
+    private final int k;
+
+    public _059_BlockedBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0)
+            throw new IllegalArgumentException("expectedInsertions must be positive: " + expectedInsertions);
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1)
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1): " + falsePositiveRate);
+        double ln2 = Math.log(2);
+        // Blocking skews the load across lines, so size it ~20% above the textbook optimum
+        double bitsPerKey = -Math.log(falsePositiveRate) / (ln2 * ln2) * 1.2;
+        long totalBits = (long) Math.ceil(expectedInsertions * bitsPerKey);
+        long blocks = Math.max(1, (totalBits + 511) / 512);
+        if (blocks * WORDS_PER_BLOCK > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("filter too large for " + expectedInsertions + " keys");
+        this.blockCount = (int) blocks;
+        this.k = Math.max(1, Math.min(16, (int) Math.round(bitsPerKey / 1.2 * ln2)));
+        this.bits = new long[blockCount * WORDS_PER_BLOCK];
+    }
+
+    private _059_BlockedBloomFilter(int k, int blockCount, long[] bits) {
+        this.k = k;
+        this.blockCount = blockCount;
+        this.bits = bits;
+    }
+
+    public void add(int key) {
+        long h = _080_HashMix.mix64(key);
+        int base = block(h) * WORDS_PER_BLOCK;
+        int h2 = (int) h;
+        for (int i = 0; i < k; i++) {
+            int bit = (h2 + i * (h2 >>> 16 | 1)) & 511;
+            bits[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(int key) {
+        long h = _080_HashMix.mix64(key);
+        int base = block(h) * WORDS_PER_BLOCK;
+        int h2 = (int) h;
+        for (int i = 0; i < k; i++) {
+            int bit = (h2 + i * (h2 >>> 16 | 1)) & 511;
+            if ((bits[base + (bit >>> 6)] & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    public int hashCount() {
+        return k;
+    }
+
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    // Upper 32 bits pick the block (multiply-shift range reduction), lower 32 bits drive the in-block bits
+    private int block(long h) {
+        return (int) (((h >>> 32) * blockCount) >>> 32);
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(k);
+        out.writeInt(blockCount);
+        for (long word : bits)
+            out.writeLong(word);
+    }
+
+    public static _059_BlockedBloomFilter readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("not a blocked Bloom filter");
+        int k = in.readInt();
+        int blockCount = in.readInt();
+        if (k < 1 || blockCount < 1 || blockCount > (Integer.MAX_VALUE - 8) / WORDS_PER_BLOCK)
+            throw new IOException("corrupt Bloom filter header: k=" + k + ", blocks=" + blockCount);
+        long[] bits = new long[blockCount * WORDS_PER_BLOCK];
+        for (int i = 0; i < bits.length; i++)
+            bits[i] = in.readLong();
+        return new _059_BlockedBloomFilter(k, blockCount, bits);
+    }
+}
@@ -0,0 +1,166 @@
+package InterviewQuestions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Longest run of consecutive values in an int[] without boxing.
+ * Values are marked in a bitmap over [min, max]; the longest run of set bits is the answer.
+ * The parallel mode marks bits from input chunks, then scans word-aligned value-range
+ * partitions and stitches their (prefix, suffix, best) summaries at the boundaries.
+ * When the value span is too sparse for a bitmap, it falls back to sort-and-scan.
+ */
+public class _060_ConsecutiveRunFinder {
+    public static void main(String[] args) {
+        int[] nums = { 100, 4, 200, 1, 3, 2, 101, 102, 103, 104 };
+        System.out.println(longestRun(nums)); // 5
+        System.out.println(longestRunParallel(nums)); // 5
+
+        int[] big = new int[20_000_000];
+        Random random = new Random(7);
+        for (int i = 0; i < big.length; i++)
+            big[i] = random.nextInt(40_000_000);
+        long start = System.nanoTime();
+        int result = longestRunParallel(big);
+        System.out.println(result + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // A bitmap costs span / 8 bytes; past 64 bits per element a sort is cheaper
+    private static final long MAX_BITS_PER_ELEMENT = 64;
+
+    public static int longestRun(int[] nums) {
+        if (nums == null || nums.length == 0)
+            return 0;
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (int v : nums) {
+            if (v < min) min = v;
+            if (v > max) max = v;
+        }
+        long span = (long) max - min + 1;
+        if (span > MAX_BITS_PER_ELEMENT * nums.length + 4096)
+            return longestRunSorted(nums, false);
+
+        long[] words = new long[(int) ((span + 63) >>> 6)];
+        for (int v : nums) {
+            long bit = (long) v - min;
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        return (int) summarize(words, 0, words.length).best;
+    }
+
+    public static int longestRunParallel(int[] nums) {
+        if (nums == null || nums.length == 0)
+            return 0;
+        int min = IntStream.of(nums).parallel().min().getAsInt();
+        int max = IntStream.of(nums).parallel().max().getAsInt();
+        long span = (long) max - min + 1;
+        if (span > MAX_BITS_PER_ELEMENT * nums.length + 4096)
+            return longestRunSorted(nums, true);
+
+        long[] words = new long[(int) ((span + 63) >>> 6)];
+        int parts = Math.max(1, Runtime.getRuntime().availableProcessors() * 4);
+
+        // Mark bits from input chunks; chunks can hit the same word, so the OR is atomic
+        int chunk = (nums.length + parts - 1) / parts;
+        IntStream.range(0, parts).parallel().forEach(c -> {
+            for (int i = c * chunk, end = Math.min(nums.length, (c + 1) * chunk); i < end; i++) {
+                long bit = (long) nums[i] - min;
+                WORDS.getAndBitwiseOr(words, (int) (bit >>> 6), 1L << bit);
+            }
+        });
+
+        // Scan word-aligned value ranges independently, then stitch left to right
+        int wordsPerPart = (words.length + parts - 1) / parts;
+        RunSummary[] summaries = IntStream.range(0, parts).parallel()
+                .mapToObj(p -> summarize(words, Math.min(words.length, p * wordsPerPart),
+                        Math.min(words.length, (p + 1) * wordsPerPart)))
+                .toArray(RunSummary[]::new);
+        RunSummary total = summaries[0];
+        for (int p = 1; p < parts; p++)
+            total = total.append(summaries[p]);
+        return (int) total.best;
+    }
+
+    private static int longestRunSorted(int[] nums, boolean parallel) {
+        int[] sorted = nums.clone();
+        if (parallel) Arrays.parallelSort(sorted);
+        else Arrays.sort(sorted);
+        int best = 1, cur = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1])
+                continue;
+            cur = sorted[i] == sorted[i - 1] + 1 ? cur + 1 : 1;
+            best = Math.max(best, cur);
+        }
+        return best;
+    }
+
+    /** Run-of-ones summary of a bit range: leading ones, trailing ones, best inside, total length. */
+    static final class RunSummary {
+        final long prefix, suffix, best, length;
+
+        RunSummary(long prefix, long suffix, long best, long length) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.best = best;
+            this.length = length;
+        }
+
+        boolean isFull() {
+            return prefix == length;
+        }
+
+        RunSummary append(RunSummary next) {
+            if (length == 0) return next;
+            if (next.length == 0) return this;
+            long bridge = suffix + next.prefix;
+            long best = Math.max(Math.max(this.best, next.best), bridge);
+            long prefix = isFull() ? length + next.prefix : this.prefix;
+            long suffix = next.isFull() ? next.length + this.suffix : next.suffix;
+            return new RunSummary(prefix, suffix, best, length + next.length);
+        }
+    }
+
+    // Bits are LSB-first: value (min + i) lives at bit (i & 63) of word (i >>> 6)
+    static RunSummary summarize(long[] words, int from, int to) {
+        long prefix = 0;
+        boolean inPrefix = true;
+        long cur = 0, best = 0;
+        for (int i = from; i < to; i++) {
+            long w = words[i];
+            if (w == -1L) {
+                cur += 64;
+                if (inPrefix) prefix += 64;
+                continue;
+            }
+            int low = Long.numberOfTrailingZeros(~w);
+            cur += low;
+            if (inPrefix) {
+                prefix += low;
+                inPrefix = false;
+            }
+            best = Math.max(best, cur);
+            // A run inside the word is at most its popcount; skip the strip loop when that cannot beat best
+            if (Long.bitCount(w) > best)
+                best = Math.max(best, longestRunInWord(w));
+            cur = Long.numberOfLeadingZeros(~w);
+        }
+        best = Math.max(best, cur);
+        return new RunSummary(prefix, cur, best, 64L * (to - from));
+    }
+
+    // Each step strips one bit from the end of every run, so the step count is the longest run
+    static int longestRunInWord(long w) {
+        int n = 0;
+        while (w != 0) {
+            w &= w >>> 1;
+            n++;
+        }
+        return n;
+    }
+}
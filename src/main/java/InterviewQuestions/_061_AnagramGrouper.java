@@ -0,0 +1,170 @@
+package InterviewQuestions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Groups anagrams by a 128-bit multiset hash of the word's code points.
+ * Each code point contributes mix64(cp) to two independent commutative sums, so the key
+ * is order-independent, covers all of Unicode and needs no String per word.
+ * A hash match is always confirmed against the group's first word before joining it.
+ */
+public class _061_AnagramGrouper {
+    public static void main(String[] args) {
+        String[] str = { "eat", "tea", "tan", "ate", "nat", "bat", "Straße", "ßtraSe", "😀ab", "b😀a" };
+        System.out.println(group(str));
+        System.out.println(groupParallel(Arrays.stream(str)));
+    }
+
+    private static final long SALT = 0x9E3779B97F4A7C15L;
+
+    static long hashLow(CharSequence word) {
+        long h = 0;
+        for (int i = 0; i < word.length(); ) {
+            int cp = Character.codePointAt(word, i);
+            h += _080_HashMix.mix64(cp);
+            i += Character.charCount(cp);
+        }
+        return h;
+    }
+
+    static long hashHigh(CharSequence word) {
+        long h = word.length();
+        for (int i = 0; i < word.length(); ) {
+            int cp = Character.codePointAt(word, i);
+            h += _080_HashMix.mix64(cp ^ SALT);
+            i += Character.charCount(cp);
+        }
+        return h;
+    }
+
+    /** Single-threaded grouping over a primitive open-addressing table of 128-bit keys. */
+    public static List<List<String>> group(String[] words) {
+        int capacity = Integer.highestOneBit(Math.max(2, words.length * 2 - 1)) << 1;
+        long[] lows = new long[capacity];
+        long[] highs = new long[capacity];
+        int[] slots = new int[capacity]; // group index + 1, 0 = empty
+        List<List<String>> groups = new ArrayList<>();
+        int[][] scratch = new int[2][16];
+
+        for (String word : words) {
+            long low = hashLow(word), high = hashHigh(word);
+            int i = (int) (low ^ (low >>> 32)) & (capacity - 1);
+            while (true) {
+                if (slots[i] == 0) {
+                    List<String> g = new ArrayList<>();
+                    g.add(word);
+                    groups.add(g);
+                    lows[i] = low;
+                    highs[i] = high;
+                    slots[i] = groups.size();
+                    break;
+                }
+                if (lows[i] == low && highs[i] == high) {
+                    List<String> g = groups.get(slots[i] - 1);
+                    if (isAnagram(g.get(0), word, scratch)) {
+                        g.add(word);
+                        break;
+                    }
+                }
+                // Different key, or a genuine 128-bit collision: keep probing
+                i = (i + 1) & (capacity - 1);
+            }
+        }
+        return groups;
+    }
+
+    /** Parallel grouping of a word stream through a ConcurrentHashMap keyed by the 128-bit hash. */
+    public static List<List<String>> groupParallel(Stream<String> words) {
+        ConcurrentHashMap<Key, Bucket> map = new ConcurrentHashMap<>();
+        ThreadLocal<int[][]> scratch = ThreadLocal.withInitial(() -> new int[2][16]);
+
+        words.parallel().forEach(word -> {
+            Bucket bucket = map.computeIfAbsent(new Key(hashLow(word), hashHigh(word)), k -> new Bucket(word));
+            bucket.add(word, scratch.get());
+        });
+
+        List<List<String>> groups = new ArrayList<>();
+        for (Bucket b : map.values())
+            for (; b != null; b = b.next)
+                groups.add(new ArrayList<>(b.words));
+        return groups;
+    }
+
+    private static final class Key {
+        final long low, high;
+
+        Key(long low, long high) {
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).low == low && ((Key) o).high == high;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (low ^ (low >>> 32));
+        }
+    }
+
+    // One anagram class; a colliding class with the same key is chained through next
+    private static final class Bucket {
+        final String representative;
+        final Queue<String> words = new ConcurrentLinkedQueue<>();
+        volatile Bucket next;
+
+        Bucket(String representative) {
+            this.representative = representative;
+        }
+
+        void add(String word, int[][] scratch) {
+            Bucket b = this;
+            while (!isAnagram(b.representative, word, scratch)) {
+                Bucket n = b.next;
+                if (n == null) {
+                    synchronized (b) {
+                        if (b.next == null)
+                            b.next = new Bucket(word);
+                        n = b.next;
+                    }
+                }
+                b = n;
+            }
+            b.words.add(word);
+        }
+    }
+
+    // Exact check on sorted code points, reusing the caller's scratch buffers
+    static boolean isAnagram(CharSequence a, CharSequence b, int[][] scratch) {
+        if (a.length() != b.length())
+            return false;
+        if (scratch[0].length < a.length()) {
+            scratch[0] = new int[a.length() * 2];
+            scratch[1] = new int[a.length() * 2];
+        }
+        int n = codePoints(a, scratch[0]);
+        if (n != codePoints(b, scratch[1]))
+            return false;
+        Arrays.sort(scratch[0], 0, n);
+        Arrays.sort(scratch[1], 0, n);
+        return Arrays.equals(scratch[0], 0, n, scratch[1], 0, n);
+    }
+
+    private static int codePoints(CharSequence s, int[] out) {
+        int n = 0;
+        for (int i = 0; i < s.length(); ) {
+            int cp = Character.codePointAt(s, i);
+            out[n++] = cp;
+            i += Character.charCount(cp);
+        }
+        return n;
+    }
+}
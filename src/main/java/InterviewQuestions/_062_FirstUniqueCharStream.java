@@ -0,0 +1,154 @@
+package InterviewQuestions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Tracks the first non-repeating code point of an unbounded character stream.
+ * Code points seen exactly once sit in a doubly linked list in arrival order; a second
+ * sighting unlinks them for good. Links live in int arrays indexed by a per-code-point slot,
+ * so both feeding and firstUnique() are O(1) and nothing is allocated per character.
+ */
+public class _062_FirstUniqueCharStream {
+    public static void main(String[] args) throws IOException {
+        _062_FirstUniqueCharStream tracker = new _062_FirstUniqueCharStream();
+        tracker.feed(new StringReader("haab"));
+        System.out.println(Character.toString(tracker.firstUnique())); // h
+        tracker.feed(CharBuffer.wrap("fhebecd"));
+        System.out.println(Character.toString(tracker.firstUnique())); // f
+        tracker.feed(CharBuffer.wrap("f😀"));
+        System.out.println(Character.toString(tracker.firstUnique())); // c
+
+        _062_FirstUniqueCharStream loneHigh = new _062_FirstUniqueCharStream();
+        loneHigh.feed(new StringReader("aa\uD83D"));
+        System.out.println(loneHigh.firstUnique() == 0xD83D); // true: the trailing half is counted at end of input
+    }
+
+    public static final int NONE = -1;
+
+    // code point -> slot, open addressing; slot 0 is reserved as "empty"
+    private int[] table = new int[256];
+    private int[] codePoints = new int[64];
+    private byte[] counts = new byte[64]; // 1 = seen once, 2 = repeated
+    private int[] prev = new int[64];
+    private int[] next = new int[64];
+    private int slots = 1;
+
+    private int head, tail;
+    private char pendingHigh;
+    private final char[] readBuffer = new char[8192];
+
+    /** A high surrogate still waiting for its low half is not counted until the next char or finish(). */
+    public int firstUnique() {
+        return head == 0 ? NONE : codePoints[head];
+    }
+
+    /** Feeds everything the reader has left, then finishes, since nothing follows the reader's end. */
+    public void feed(Reader reader) throws IOException {
+        int n;
+        while ((n = reader.read(readBuffer)) != -1)
+            feed(readBuffer, 0, n);
+        finish();
+    }
+
+    /** Accepts a held-back high surrogate as a code point of its own: its low half is not coming. */
+    public void finish() {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            acceptCodePoint(high);
+        }
+    }
+
+    public void feed(CharBuffer chunk) {
+        if (chunk.hasArray()) {
+            feed(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            chunk.position(chunk.limit());
+        } else {
+            while (chunk.hasRemaining())
+                accept(chunk.get());
+        }
+    }
+
+    public void feed(char[] chars, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++)
+            accept(chars[i]);
+    }
+
+    // Surrogate pairs may be split across chunks, so a pending high surrogate is carried over
+    public void accept(char ch) {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            if (Character.isLowSurrogate(ch)) {
+                acceptCodePoint(Character.toCodePoint(high, ch));
+                return;
+            }
+            acceptCodePoint(high);
+        }
+        if (Character.isHighSurrogate(ch))
+            pendingHigh = ch;
+        else
+            acceptCodePoint(ch);
+    }
+
+    public void acceptCodePoint(int cp) {
+        int slot = slotOf(cp);
+        if (counts[slot] == 0) {
+            counts[slot] = 1;
+            prev[slot] = tail;
+            next[slot] = 0;
+            if (tail == 0) head = slot;
+            else next[tail] = slot;
+            tail = slot;
+        } else if (counts[slot] == 1) {
+            counts[slot] = 2;
+            unlink(slot);
+        }
+    }
+
+    private void unlink(int slot) {
+        int p = prev[slot], n = next[slot];
+        if (p == 0) head = n;
+        else next[p] = n;
+        if (n == 0) tail = p;
+        else prev[n] = p;
+    }
+
+    private int slotOf(int cp) {
+        int mask = table.length - 1;
+        int i = _080_HashMix.mix32(cp) & mask;
+        while (table[i] != 0) {
+            if (codePoints[table[i]] == cp)
+                return table[i];
+            i = (i + 1) & mask;
+        }
+        if (slots == codePoints.length) {
+            int size = slots * 2;
+            codePoints = Arrays.copyOf(codePoints, size);
+            counts = Arrays.copyOf(counts, size);
+            prev = Arrays.copyOf(prev, size);
+            next = Arrays.copyOf(next, size);
+        }
+        int slot = slots++;
+        codePoints[slot] = cp;
+        table[i] = slot;
+        if (slots * 2 > table.length)
+            rehash();
+        return slot;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int slot = 1; slot < slots; slot++) {
+            int i = _080_HashMix.mix32(codePoints[slot]) & mask;
+            while (table[i] != 0)
+                i = (i + 1) & mask;
+            table[i] = slot;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package InterviewQuestions;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Palindrome checks that run two pointers over the caller's data without copying it.
+ * Works on CharSequence (String, StringBuilder, CharBuffer...), char[] and ByteBuffer ranges,
+ * with optional case folding and skipping of non-alphanumerics or of whitespace only.
+ * Also answers the longest palindromic substring with Manacher's algorithm.
+ */
+public class _063_PalindromeChecker {
+    public static void main(String[] args) {
+        System.out.println(isPalindrome("madam", 0)); // true
+        System.out.println(isPalindrome("A man, a plan, a canal: Panama", IGNORE_CASE | ALPHANUMERIC_ONLY)); // true
+        char[] chars = "xxracecarxx".toCharArray();
+        System.out.println(isPalindrome(chars, 2, 9, 0)); // true
+        ByteBuffer bytes = ByteBuffer.wrap("Was it a car or a cat I saw?".getBytes(StandardCharsets.ISO_8859_1));
+        System.out.println(isPalindrome(bytes, 0, bytes.limit(), IGNORE_CASE | ALPHANUMERIC_ONLY)); // true
+
+        int[] longest = longestPalindrome("forgeeksskeegfor");
+        System.out.println("forgeeksskeegfor".substring(longest[0], longest[0] + longest[1])); // geeksskeeg
+    }
+
+    public static final int IGNORE_CASE = 1;
+    public static final int ALPHANUMERIC_ONLY = 1 << 1;
+    /** Skips only the whitespace that regex \s matches (see _065_WhitespaceStripper); punctuation still counts. */
+    public static final int IGNORE_WHITESPACE = 1 << 2;
+
+    public static boolean isPalindrome(CharSequence s, int options) {
+        return isPalindrome(s, 0, s.length(), options);
+    }
+
+    /**
+     * Checks s[from, to) code point by code point, so surrogate pairs are compared whole.
+     * A pair split by from or to is not joined with the char outside the range.
+     */
+    public static boolean isPalindrome(CharSequence s, int from, int to, int options) {
+        int left = from, right = to;
+        boolean fold = (options & IGNORE_CASE) != 0;
+        while (left < right) {
+            int a = codePointAt(s, left, right);
+            if (skipped(a, options)) {
+                left += Character.charCount(a);
+                continue;
+            }
+            int b = codePointBefore(s, right, left);
+            if (skipped(b, options)) {
+                right -= Character.charCount(b);
+                continue;
+            }
+            if (left + Character.charCount(a) > right - Character.charCount(b))
+                return true; // both pointers landed on the same middle code point
+            if (a != b && !(fold && foldCase(a) == foldCase(b)))
+                return false;
+            left += Character.charCount(a);
+            right -= Character.charCount(b);
+        }
+        return true;
+    }
+
+    // Character.codePointAt(CharSequence, int) would pair a high surrogate with the char at limit
+    private static int codePointAt(CharSequence s, int index, int limit) {
+        char high = s.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < limit) {
+            char low = s.charAt(index + 1);
+            if (Character.isLowSurrogate(low))
+                return Character.toCodePoint(high, low);
+        }
+        return high;
+    }
+
+    private static int codePointBefore(CharSequence s, int index, int start) {
+        char low = s.charAt(index - 1);
+        if (Character.isLowSurrogate(low) && index - 2 >= start) {
+            char high = s.charAt(index - 2);
+            if (Character.isHighSurrogate(high))
+                return Character.toCodePoint(high, low);
+        }
+        return low;
+    }
+
+    private static boolean skipped(int cp, int options) {
+        return ((options & ALPHANUMERIC_ONLY) != 0 && !Character.isLetterOrDigit(cp))
+                || ((options & IGNORE_WHITESPACE) != 0 && _065_WhitespaceStripper.isWhitespace(cp));
+    }
+
+    public static boolean isPalindrome(char[] chars, int from, int to, int options) {
+        // CharBuffer.wrap is a view over the array, not a copy
+        return isPalindrome(CharBuffer.wrap(chars), from, to, options);
+    }
+
+    /** Checks a byte range as Latin-1 (which includes ASCII) using absolute gets; position and limit are untouched. */
+    public static boolean isPalindrome(ByteBuffer bytes, int from, int to, int options) {
+        int left = from, right = to - 1;
+        boolean fold = (options & IGNORE_CASE) != 0;
+        while (left < right) {
+            int a = bytes.get(left) & 0xFF;
+            if (skipped(a, options)) {
+                left++;
+                continue;
+            }
+            int b = bytes.get(right) & 0xFF;
+            if (skipped(b, options)) {
+                right--;
+                continue;
+            }
+            if (a != b && !(fold && foldCase(a) == foldCase(b)))
+                return false;
+            left++;
+            right--;
+        }
+        return true;
+    }
+
+    // Upper then lower mirrors String.equalsIgnoreCase for scripts with irregular case pairs
+    private static int foldCase(int cp) {
+        return Character.toLowerCase(Character.toUpperCase(cp));
+    }
+
+    /**
+     * Longest palindromic substring by Manacher's algorithm, O(n) time.
+     * Returns {offset, length} in chars; needs one int[2n+1] of radii.
+     */
+    public static int[] longestPalindrome(CharSequence s) {
+        int n = s.length();
+        if (n == 0)
+            return new int[] { 0, 0 };
+        // Virtual interleaving "#a#b#...#": even index = gap, odd index = char (i - 1) / 2
+        int m = 2 * n + 1;
+        int[] radius = new int[m];
+        int center = 0, right = 0, bestCenter = 0;
+        for (int i = 0; i < m; i++) {
+            int r = i < right ? Math.min(right - i, radius[2 * center - i]) : 0;
+            while (i - r - 1 >= 0 && i + r + 1 < m && charAt(s, i - r - 1) == charAt(s, i + r + 1))
+                r++;
+            radius[i] = r;
+            if (i + r > right) {
+                center = i;
+                right = i + r;
+            }
+            if (r > radius[bestCenter])
+                bestCenter = i;
+        }
+        int length = radius[bestCenter];
+        return new int[] { (bestCenter - length) / 2, length };
+    }
+
+    private static int charAt(CharSequence s, int virtualIndex) {
+        return (virtualIndex & 1) == 0 ? -1 : s.charAt(virtualIndex >>> 1);
+    }
+}
@@ -0,0 +1,137 @@
+package InterviewQuestions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Counts words in a UTF-8 file by memory-mapping it and scanning raw bytes in parallel.
+ * The file is cut into chunks whose boundaries are moved forward to just after an ASCII
+ * whitespace byte, so no word and no multi-byte sequence straddles two chunks. Each chunk counts
+ * whitespace-to-word transitions on its own; the total is the sum. No per-word objects are created.
+ *
+ * Whitespace follows Character.isWhitespace, including its multi-byte code points
+ * (U+1680, U+2000..U+2006, U+2008..U+200A, U+2028, U+2029, U+205F, U+3000).
+ */
+public class _064_MappedWordCounter {
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("words", ".txt");
+        try {
+            Files.write(file, "    India Is My Country　and more\n".getBytes(StandardCharsets.UTF_8));
+            System.out.println(countWords(file)); // 6
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    static final long DEFAULT_CHUNK = 64L << 20;
+
+    public static long countWords(Path file) throws IOException {
+        return countWords(file, DEFAULT_CHUNK);
+    }
+
+    public static long countWords(Path file, long chunkSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0)
+                return 0;
+            long[] bounds = chunkBounds(channel, size, chunkSize);
+            return IntStream.range(0, bounds.length - 1).parallel()
+                    .mapToLong(i -> countChunk(channel, bounds[i], bounds[i + 1]))
+                    .sum();
+        }
+    }
+
+    // Boundaries land right after an ASCII whitespace byte (or at EOF); ASCII never occurs inside a UTF-8 sequence
+    private static long[] chunkBounds(FileChannel channel, long size, long chunkSize) throws IOException {
+        long[] bounds = new long[(int) ((size + chunkSize - 1) / chunkSize) + 1];
+        int n = 0;
+        bounds[n++] = 0;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long last = 0;
+        while (last + chunkSize < size) {
+            long cut = nextWhitespaceEnd(channel, last + chunkSize, size, probe);
+            if (cut >= size)
+                break;
+            bounds[n++] = cut;
+            last = cut;
+        }
+        bounds[n++] = size;
+        return Arrays.copyOf(bounds, n);
+    }
+
+    private static long nextWhitespaceEnd(FileChannel channel, long from, long size, ByteBuffer probe) throws IOException {
+        for (long at = from; at < size; at += probe.limit()) {
+            probe.clear();
+            if (channel.read(probe, at) <= 0)
+                break;
+            probe.flip();
+            for (int i = 0; i < probe.limit(); i++)
+                if (isAsciiWhitespace(probe.get(i)))
+                    return at + i + 1;
+        }
+        return size;
+    }
+
+    private static long countChunk(FileChannel channel, long from, long to) {
+        try {
+            MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+            return countWords(buf, 0, buf.limit());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Counts words in buf[from, to), assuming the range starts outside a word. */
+    static long countWords(ByteBuffer buf, int from, int to) {
+        long count = 0;
+        boolean inWord = false;
+        int i = from;
+        while (i < to) {
+            int b = buf.get(i) & 0xFF;
+            if (b < 0x80) {
+                if (isAsciiWhitespace((byte) b)) {
+                    inWord = false;
+                } else if (!inWord) {
+                    inWord = true;
+                    count++;
+                }
+                i++;
+                continue;
+            }
+            if (b >= 0xE1 && b <= 0xE3 && i + 2 < to
+                    && isMultiByteWhitespace(b, buf.get(i + 1) & 0xFF, buf.get(i + 2) & 0xFF)) {
+                inWord = false;
+                i += 3;
+                continue;
+            }
+            if (!inWord && b >= 0xC0) {
+                inWord = true;
+                count++;
+            }
+            i++;
+        }
+        return count;
+    }
+
+    // Space, tab, LF, VT, FF, CR and the file/group/record/unit separators 0x1C..0x1F
+    private static boolean isAsciiWhitespace(byte b) {
+        return b == ' ' || (b >= 0x09 && b <= 0x0D) || (b >= 0x1C && b <= 0x1F);
+    }
+
+    private static boolean isMultiByteWhitespace(int b0, int b1, int b2) {
+        if (b0 == 0xE1) return b1 == 0x9A && b2 == 0x80; // U+1680
+        if (b0 == 0xE3) return b1 == 0x80 && b2 == 0x80; // U+3000
+        if (b1 == 0x80) // U+2000..U+203F
+            return (b2 >= 0x80 && b2 <= 0x86) || (b2 >= 0x88 && b2 <= 0x8A) || b2 == 0xA8 || b2 == 0xA9;
+        return b1 == 0x81 && b2 == 0x9F; // U+205F
+    }
+}
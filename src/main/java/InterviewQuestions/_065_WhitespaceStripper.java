@@ -0,0 +1,131 @@
+package InterviewQuestions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Removes the regex \s whitespace set (space, \t, \n, VT, \f, \r) from char[], byte[] and CharBuffer
+ * input, either in place or into a caller-supplied buffer.
+ * byte[] input can be Latin-1 or UTF-8: all six whitespace bytes are ASCII, and ASCII bytes never
+ * occur inside a UTF-8 multi-byte sequence. Long byte inputs are scanned 8 bytes per step (SWAR),
+ * and whitespace-free words are copied whole.
+ */
+public class _065_WhitespaceStripper {
+    public static void main(String[] args) {
+        char[] chars = "Hello World\t123\n".toCharArray();
+        int n = strip(chars, 0, chars.length, chars, 0);
+        System.out.println(new String(chars, 0, n)); // HelloWorld123
+
+        byte[] bytes = " Grüße  aus\r\nBerlin, a longer line of text ".getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[bytes.length];
+        n = strip(bytes, 0, bytes.length, out, 0);
+        System.out.println(new String(out, 0, n, StandardCharsets.UTF_8)); // GrüßeausBerlin,alongerlineoftext
+
+        CharBuffer dst = CharBuffer.allocate(32);
+        strip(CharBuffer.wrap("a b c"), dst);
+        System.out.println(dst.flip()); // abc
+        // The fit is checked against the stripped size, so 4 chars of room is enough for "a b c d"
+        dst = CharBuffer.allocate(4);
+        System.out.println(strip(CharBuffer.wrap("a b c d".toCharArray()), dst)); // 4
+    }
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    public static boolean isWhitespace(int c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Copies src[from, to) minus whitespace to dst starting at dstOffset and returns the count written.
+     * In-place use (src == dst, dstOffset <= from) is allowed.
+     */
+    public static int strip(char[] src, int from, int to, char[] dst, int dstOffset) {
+        int w = dstOffset;
+        int i = from;
+        while (i < to) {
+            // Copy a whole run of non-whitespace at once; arraycopy handles the in-place overlap
+            int runStart = i;
+            while (i < to && !isWhitespace(src[i]))
+                i++;
+            int run = i - runStart;
+            if (run > 0) {
+                if (src != dst || w != runStart)
+                    System.arraycopy(src, runStart, dst, w, run);
+                w += run;
+            }
+            while (i < to && isWhitespace(src[i]))
+                i++;
+        }
+        return w - dstOffset;
+    }
+
+    /** Same contract as the char[] overload, over Latin-1 or UTF-8 bytes. */
+    public static int strip(byte[] src, int from, int to, byte[] dst, int dstOffset) {
+        int w = dstOffset;
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONGS.get(src, i);
+            // Non-zero iff some byte is < 0x21, i.e. could be whitespace
+            if (((word - ONES * 0x21) & ~word & HIGHS) == 0) {
+                // w <= i, so this never overwrites input that has not been read yet
+                LONGS.set(dst, w, word);
+                w += Long.BYTES;
+            } else {
+                for (int k = 0; k < Long.BYTES; k++) {
+                    byte b = (byte) (word >>> (k << 3));
+                    if (!isWhitespace(b))
+                        dst[w++] = b;
+                }
+            }
+        }
+        for (; i < to; i++) {
+            byte b = src[i];
+            if (!isWhitespace(b))
+                dst[w++] = b;
+        }
+        return w - dstOffset;
+    }
+
+    /**
+     * Drains src into dst without whitespace; returns the number of chars written.
+     * If dst cannot hold the stripped output, BufferOverflowException is thrown before either buffer
+     * is touched, whether or not the buffers are array-backed. The fit is decided by the stripped size:
+     * when dst has less room than src.remaining(), the non-whitespace chars are counted first.
+     */
+    public static int strip(CharBuffer src, CharBuffer dst) {
+        if (dst.remaining() < src.remaining() && dst.remaining() < countNonWhitespace(src))
+            throw new BufferOverflowException();
+        int written;
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            written = strip(src.array(), src.arrayOffset() + src.position(), src.arrayOffset() + src.limit(),
+                    dst.array(), dst.arrayOffset() + dst.position());
+            src.position(src.limit());
+            dst.position(dst.position() + written);
+            return written;
+        }
+        written = 0;
+        while (src.hasRemaining()) {
+            char ch = src.get();
+            if (!isWhitespace(ch)) {
+                dst.put(ch);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    // Absolute gets, so src's position is unchanged
+    private static int countNonWhitespace(CharBuffer src) {
+        int count = 0;
+        for (int i = src.position(), end = src.limit(); i < end; i++)
+            if (!isWhitespace(src.get(i)))
+                count++;
+        return count;
+    }
+}
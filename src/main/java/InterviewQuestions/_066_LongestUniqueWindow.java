@@ -0,0 +1,175 @@
+package InterviewQuestions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Arrays;
+
+/**
+ * Incremental longest-substring-without-repeating-characters over a character stream.
+ * Input may arrive in any number of chunks; the sliding window and a surrogate half split across
+ * chunks are carried over. Last-seen positions live in a long[256] for Latin-1 and in a primitive
+ * open-addressing table for every other code point, so nothing is allocated per character.
+ *
+ * Lengths count code points; offsets are char (UTF-16) positions in the whole stream.
+ */
+public class _066_LongestUniqueWindow {
+    public static void main(String[] args) throws IOException {
+        _066_LongestUniqueWindow window = new _066_LongestUniqueWindow();
+        window.feed(new StringReader("abcdbeghef"));
+        System.out.println(window.bestLength() + " at [" + window.bestStart() + ", " + window.bestEnd() + ")"); // 6 at [2, 8)
+
+        _066_LongestUniqueWindow chunked = new _066_LongestUniqueWindow();
+        chunked.feed("xy😀".toCharArray(), 0, 3); // the emoji's high surrogate ends this chunk
+        chunked.feed("😀z".toCharArray(), 1, 2); // ...and its low surrogate starts the next
+        chunked.finish();
+        System.out.println(chunked.bestLength()); // 4
+
+        _066_LongestUniqueWindow loneHigh = new _066_LongestUniqueWindow();
+        loneHigh.feed(new StringReader("b\uD83D")); // a lone high surrogate at the end still counts
+        System.out.println(loneHigh.bestLength()); // 2
+    }
+
+    // Latin-1 fast path: code point index and char offset of the last sighting, -1 if unseen
+    private final long[] latinIndex = new long[256];
+    private final long[] latinOffset = new long[256];
+
+    // Everything else: open addressing keyed by code point, keys[i] == -1 marks an empty slot
+    private int[] keys = new int[16];
+    private long[] otherIndex = new long[16];
+    private long[] otherOffset = new long[16];
+    private int others;
+
+    private long cpIndex;       // code points consumed so far
+    private long charOffset;    // chars consumed so far
+    private long windowIndex;   // code point index of the window start
+    private long windowOffset;  // char offset of the window start
+    private long bestLength, bestStart, bestEnd;
+    private char pendingHigh;
+    private final char[] readBuffer = new char[8192];
+
+    public _066_LongestUniqueWindow() {
+        Arrays.fill(latinIndex, -1);
+        Arrays.fill(keys, -1);
+    }
+
+    public long bestLength() {
+        return bestLength;
+    }
+
+    public long bestStart() {
+        return bestStart;
+    }
+
+    public long bestEnd() {
+        return bestEnd;
+    }
+
+    /** Feeds everything the reader has left, then finishes the stream. */
+    public void feed(Reader reader) throws IOException {
+        int n;
+        while ((n = reader.read(readBuffer)) != -1)
+            feed(readBuffer, 0, n);
+        finish();
+    }
+
+    /**
+     * Marks the end of input: a high surrogate held back at the end of the last chunk has no low half
+     * coming, so it is counted as a code point of its own. Chunked callers call this after their last feed.
+     */
+    public void finish() {
+        if (pendingHigh != 0) {
+            char high = pendingHigh;
+            pendingHigh = 0;
+            accept(high, 1);
+        }
+    }
+
+    public void feed(char[] chars, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            char ch = chars[i];
+            if (pendingHigh != 0) {
+                char high = pendingHigh;
+                pendingHigh = 0;
+                if (Character.isLowSurrogate(ch)) {
+                    accept(Character.toCodePoint(high, ch), 2);
+                    continue;
+                }
+                accept(high, 1);
+            }
+            if (Character.isHighSurrogate(ch))
+                pendingHigh = ch;
+            else
+                accept(ch, 1);
+        }
+    }
+
+    private void accept(int cp, int chars) {
+        long lastIndex, lastOffset;
+        int slot = -1;
+        if (cp < 256) {
+            lastIndex = latinIndex[cp];
+            lastOffset = latinOffset[cp];
+        } else {
+            slot = slotOf(cp);
+            lastIndex = otherIndex[slot];
+            lastOffset = otherOffset[slot];
+        }
+        if (lastIndex >= windowIndex) {
+            windowIndex = lastIndex + 1;
+            windowOffset = lastOffset + Character.charCount(cp);
+        }
+        if (cp < 256) {
+            latinIndex[cp] = cpIndex;
+            latinOffset[cp] = charOffset;
+        } else {
+            otherIndex[slot] = cpIndex;
+            otherOffset[slot] = charOffset;
+        }
+        cpIndex++;
+        charOffset += chars;
+        if (cpIndex - windowIndex > bestLength) {
+            bestLength = cpIndex - windowIndex;
+            bestStart = windowOffset;
+            bestEnd = charOffset;
+        }
+    }
+
+    // Finds or claims the slot for cp; a new slot starts as "never seen"
+    private int slotOf(int cp) {
+        int mask = keys.length - 1;
+        int i = _080_HashMix.mix32(cp) & mask;
+        while (keys[i] != -1) {
+            if (keys[i] == cp)
+                return i;
+            i = (i + 1) & mask;
+        }
+        if ((others + 1) * 2 > keys.length) {
+            grow();
+            return slotOf(cp);
+        }
+        keys[i] = cp;
+        otherIndex[i] = -1;
+        others++;
+        return i;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldIndex = otherIndex, oldOffset = otherOffset;
+        keys = new int[oldKeys.length * 2];
+        Arrays.fill(keys, -1);
+        otherIndex = new long[keys.length];
+        otherOffset = new long[keys.length];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == -1) continue;
+            int i = _080_HashMix.mix32(oldKeys[j]) & mask;
+            while (keys[i] != -1)
+                i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            otherIndex[i] = oldIndex[j];
+            otherOffset[i] = oldOffset[j];
+        }
+    }
+}
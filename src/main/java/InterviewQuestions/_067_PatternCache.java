@@ -0,0 +1,105 @@
+package InterviewQuestions;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared precompiled patterns for the regex-based string helpers.
+ * String.replaceAll / replaceFirst / matches compile their regex on every call; these patterns are
+ * compiled once, and matcher() hands back a per-thread Matcher reset to the new input so the hot
+ * path allocates neither a Pattern nor a Matcher.
+ *
+ * main() checks that the three approaches (regex per call, precompiled, hand-rolled scanner) agree
+ * on a set of edge cases, then times them per helper.
+ */
+public class _067_PatternCache {
+    public static void main(String[] args) {
+        String zeros = "000012356090000";
+        String text = "The best of both worlds, Under Taker Dead$%Man";
+        int rounds = 2_000_000;
+        String[] samples = { zeros, text, "", "0", "000", "10", "01", "0a0", " \t\n\u000B\f\r", "ABC def G", "\u00C9t\u00E9 " };
+
+        // Every leg must produce the same result as the per-call regex before its timing means anything
+        verify("leading zeros", samples, _028_removeLeadingZeros::_03_Using_RegX,
+                _028_removeLeadingZeros::_04_Using_Precompiled_RegX, _028_removeLeadingZeros::_06_Using_Scanner);
+        verify("trim zeros", samples, _030_removeLeading_And_Trailing_Zeros::_03_Using_RegX,
+                _030_removeLeading_And_Trailing_Zeros::_04_Using_Precompiled_RegX, _030_removeLeading_And_Trailing_Zeros::_06_Using_Scanner);
+        verify("non-whitespace", samples, _039_countNumber_Of_Characters_In_String::_02_UsingReplaceAll,
+                _039_countNumber_Of_Characters_In_String::_03_Using_Precompiled_RegX, _039_countNumber_Of_Characters_In_String::_04_Using_Scanner);
+        verify("capitals", samples, _043_countCapitalizedWordsInString::_02_Using_RegX,
+                _043_countCapitalizedWordsInString::_03_Using_Precompiled_RegX, _043_countCapitalizedWordsInString::_04_Using_Scanner);
+
+        bench("leading zeros   regex     ", rounds, s -> _028_removeLeadingZeros._03_Using_RegX(s).length(), zeros);
+        bench("leading zeros   compiled  ", rounds, s -> _028_removeLeadingZeros._04_Using_Precompiled_RegX(s).length(), zeros);
+        bench("leading zeros   scanner   ", rounds, s -> _028_removeLeadingZeros._06_Using_Scanner(s).length(), zeros);
+
+        bench("trim zeros      regex     ", rounds, s -> _030_removeLeading_And_Trailing_Zeros._03_Using_RegX(s).length(), zeros);
+        bench("trim zeros      compiled  ", rounds, s -> _030_removeLeading_And_Trailing_Zeros._04_Using_Precompiled_RegX(s).length(), zeros);
+        bench("trim zeros      scanner   ", rounds, s -> _030_removeLeading_And_Trailing_Zeros._06_Using_Scanner(s).length(), zeros);
+
+        bench("non-whitespace  regex     ", rounds, _039_countNumber_Of_Characters_In_String::_02_UsingReplaceAll, text);
+        bench("non-whitespace  compiled  ", rounds, _039_countNumber_Of_Characters_In_String::_03_Using_Precompiled_RegX, text);
+        bench("non-whitespace  scanner   ", rounds, _039_countNumber_Of_Characters_In_String::_04_Using_Scanner, text);
+
+        bench("capitals        regex     ", rounds, _043_countCapitalizedWordsInString::_02_Using_RegX, text);
+        bench("capitals        compiled  ", rounds, _043_countCapitalizedWordsInString::_03_Using_Precompiled_RegX, text);
+        bench("capitals        scanner   ", rounds, _043_countCapitalizedWordsInString::_04_Using_Scanner, text);
+    }
+
+    public static final Pattern LEADING_ZEROS = Pattern.compile("^0+");
+    public static final Pattern LEADING_OR_TRAILING_ZEROS = Pattern.compile("^0+|0+$");
+    public static final Pattern WHITESPACE = Pattern.compile("\\s");
+    public static final Pattern ASCII_UPPERCASE = Pattern.compile("[A-Z]");
+
+    private static final Map<String, Pattern> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Pattern, Matcher>> MATCHERS = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    /** Compiles regex once per process; later calls return the same Pattern. */
+    public static Pattern get(String regex) {
+        return CACHE.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    /**
+     * Per-thread Matcher for pattern, reset to input.
+     * Finish with the returned Matcher before asking for the same pattern again on this thread.
+     */
+    public static Matcher matcher(Pattern pattern, CharSequence input) {
+        Map<Pattern, Matcher> matchers = MATCHERS.get();
+        Matcher m = matchers.get(pattern);
+        if (m == null) {
+            m = pattern.matcher(input);
+            matchers.put(pattern, m);
+            return m;
+        }
+        return m.reset(input);
+    }
+
+    @SafeVarargs
+    private static void verify(String name, String[] inputs, Function<String, ?> regex, Function<String, ?>... others) {
+        for (String input : inputs) {
+            Object expected = regex.apply(input);
+            for (Function<String, ?> other : others) {
+                Object actual = other.apply(input);
+                if (!expected.equals(actual))
+                    throw new IllegalStateException(name + ": expected \"" + expected + "\" but got \"" + actual + "\" for \"" + input + "\"");
+            }
+        }
+    }
+
+    // Plain wall-clock timing after a warm-up pass; good enough to compare orders of magnitude
+    private static void bench(String name, int rounds, ToIntFunction<String> op, String input) {
+        long sink = 0;
+        for (int i = 0; i < rounds / 10; i++)
+            sink += op.applyAsInt(input);
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++)
+            sink += op.applyAsInt(input);
+        long nanos = System.nanoTime() - start;
+        System.out.printf("%s %6.1f ns/op (%d)%n", name, (double) nanos / rounds, sink);
+    }
+}
@@ -0,0 +1,127 @@
+package InterviewQuestions;
+
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Leading/trailing zero trimming that returns positions instead of copies.
+ * range() gives the trimmed [start, end) packed into one long, view() wraps it as a CharBuffer
+ * over the original chars, and the column APIs normalize a whole batch of IDs in one pass into
+ * a shared output buffer.
+ *
+ * An all-zero value keeps a single '0', matching _029 and _030._02_Using_Two_Pointer.
+ */
+public class _068_ZeroTrimmer {
+    public static void main(String[] args) {
+        String id = "00001230456000";
+        long r = range(id, 0, id.length(), BOTH);
+        System.out.println(start(r) + ".." + end(r)); // 4..11
+        System.out.println(view(id, LEADING)); // 1230456000
+        System.out.println(view("0000".toCharArray(), 0, 4, BOTH)); // 0
+
+        byte[] column = "0042|000|7000|0".getBytes(StandardCharsets.US_ASCII);
+        int[] offsets = { 0, 5, 9, 14 };
+        int[] lengths = { 4, 3, 4, 1 };
+        byte[] out = new byte[column.length];
+        int[] outOffsets = new int[4], outLengths = new int[4];
+        int written = normalizeColumn(column, offsets, lengths, 4, LEADING, out, outOffsets, outLengths);
+        System.out.println(new String(out, 0, written, StandardCharsets.US_ASCII)); // 42070000
+        System.out.println(Arrays.toString(outLengths)); // [2, 1, 4, 1]
+    }
+
+    public static final int LEADING = 1;
+    public static final int TRAILING = 2;
+    public static final int BOTH = LEADING | TRAILING;
+
+    public static long range(CharSequence s, int from, int to, int mode) {
+        int start = from, end = to;
+        if ((mode & LEADING) != 0)
+            while (end - start > 1 && s.charAt(start) == '0')
+                start++;
+        if ((mode & TRAILING) != 0)
+            while (end - start > 1 && s.charAt(end - 1) == '0')
+                end--;
+        return pack(start, end);
+    }
+
+    public static long range(char[] s, int from, int to, int mode) {
+        int start = from, end = to;
+        if ((mode & LEADING) != 0)
+            while (end - start > 1 && s[start] == '0')
+                start++;
+        if ((mode & TRAILING) != 0)
+            while (end - start > 1 && s[end - 1] == '0')
+                end--;
+        return pack(start, end);
+    }
+
+    public static long range(byte[] s, int from, int to, int mode) {
+        int start = from, end = to;
+        if ((mode & LEADING) != 0)
+            while (end - start > 1 && s[start] == '0')
+                start++;
+        if ((mode & TRAILING) != 0)
+            while (end - start > 1 && s[end - 1] == '0')
+                end--;
+        return pack(start, end);
+    }
+
+    public static int start(long range) {
+        return (int) (range >>> 32);
+    }
+
+    public static int end(long range) {
+        return (int) range;
+    }
+
+    private static long pack(int start, int end) {
+        return (long) start << 32 | (end & 0xFFFFFFFFL);
+    }
+
+    /** Read-only view over s; shares the original characters. */
+    public static CharSequence view(CharSequence s, int mode) {
+        long r = range(s, 0, s.length(), mode);
+        return CharBuffer.wrap(s, start(r), end(r));
+    }
+
+    /** View over chars[from, to); writes through the view are not possible, writes to chars are visible. */
+    public static CharSequence view(char[] chars, int from, int to, int mode) {
+        long r = range(chars, from, to, mode);
+        return CharBuffer.wrap(chars, start(r), end(r) - start(r));
+    }
+
+    /**
+     * Trims count IDs stored at data[offsets[i], offsets[i] + lengths[i]) and packs them back to back
+     * into out. outOffsets/outLengths receive each trimmed ID's position; returns the bytes written.
+     * out may be data itself when the IDs are laid out in increasing offset order.
+     */
+    public static int normalizeColumn(byte[] data, int[] offsets, int[] lengths, int count, int mode,
+                                      byte[] out, int[] outOffsets, int[] outLengths) {
+        int w = 0;
+        for (int i = 0; i < count; i++) {
+            long r = range(data, offsets[i], offsets[i] + lengths[i], mode);
+            int len = end(r) - start(r);
+            System.arraycopy(data, start(r), out, w, len);
+            outOffsets[i] = w;
+            outLengths[i] = len;
+            w += len;
+        }
+        return w;
+    }
+
+    /** Same as the byte[] overload for a column of CharSequence IDs written into a shared char[]. */
+    public static int normalizeColumn(CharSequence[] ids, int count, int mode,
+                                      char[] out, int[] outOffsets, int[] outLengths) {
+        int w = 0;
+        for (int i = 0; i < count; i++) {
+            CharSequence id = ids[i];
+            long r = range(id, 0, id.length(), mode);
+            outOffsets[i] = w;
+            for (int j = start(r); j < end(r); j++)
+                out[w++] = id.charAt(j);
+            outLengths[i] = w - outOffsets[i];
+        }
+        return w;
+    }
+}
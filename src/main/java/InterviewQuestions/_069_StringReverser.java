@@ -0,0 +1,205 @@
+package InterviewQuestions;
+
+import java.nio.CharBuffer;
+import java.text.BreakIterator;
+import java.text.CharacterIterator;
+
+/**
+ * String reversal that keeps surrogate pairs intact, in a single pass over char data.
+ * Static methods write into a caller-supplied char[]; an instance keeps one growable buffer
+ * (and one BreakIterator for grapheme mode) and hands back the same CharBuffer view of it on
+ * every call, re-wrapped only when the buffer grows, so once the buffer is large enough reverse
+ * allocates nothing. An instance is not thread-safe.
+ * Optional grapheme mode keeps user-perceived characters (e.g. a letter plus its combining accents)
+ * together using BreakIterator.
+ */
+public class _069_StringReverser {
+    public static void main(String[] args) {
+        _069_StringReverser reverser = new _069_StringReverser();
+        System.out.println(reverser.reverse("Geeks")); // skeeG
+        System.out.println(reverser.reverse("a😀b")); // b😀a
+        System.out.println(reverser.reverseGraphemes("ne\u0301e")); // "ee\u0301n": the combining accent stays on its e
+
+        String text = "The quick brown fox 😀 jumps over the lazy dog. ".repeat(20);
+        int rounds = 200_000;
+        long sink = 0, start = System.nanoTime();
+        for (int i = 0; i < rounds; i++)
+            sink += new StringBuilder(text).reverse().length();
+        long sbNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < rounds; i++)
+            sink += reverser.reverse(text).length();
+        long ownNanos = System.nanoTime() - start;
+        System.out.printf("StringBuilder.reverse: %d ns/op, reusable buffer: %d ns/op (%d)%n",
+                sbNanos / rounds, ownNanos / rounds, sink);
+    }
+
+    private char[] buffer = new char[64];
+    private CharBuffer view = CharBuffer.wrap(buffer);
+    private final BreakIterator clusters = BreakIterator.getCharacterInstance();
+    private final SequenceIterator text = new SequenceIterator();
+
+    /**
+     * Reverses s into the instance buffer. The returned view is the same object on every call
+     * (until the buffer grows), so its contents are only valid until the next call.
+     */
+    public CharSequence reverse(CharSequence s) {
+        ensureCapacity(s.length());
+        int n = reverse(s, 0, s.length(), buffer, 0);
+        return view(n);
+    }
+
+    /** Grapheme-mode reverse into the instance buffer; the BreakIterator is re-pointed at s, not rebuilt. */
+    public CharSequence reverseGraphemes(CharSequence s) {
+        ensureCapacity(s.length());
+        clusters.setText(text.reset(s));
+        int n = reverseGraphemes(s, clusters, buffer, 0);
+        text.reset("");
+        return view(n);
+    }
+
+    private void ensureCapacity(int n) {
+        if (buffer.length < n) {
+            buffer = new char[Math.max(n, buffer.length * 2)];
+            view = CharBuffer.wrap(buffer);
+        }
+    }
+
+    private CharBuffer view(int n) {
+        view.clear().limit(n);
+        return view;
+    }
+
+    /**
+     * Writes src[from, to) reversed into dst at dstOffset and returns the number of chars written.
+     * Each char is read once; a high/low surrogate pair is written back in its original order.
+     */
+    public static int reverse(CharSequence src, int from, int to, char[] dst, int dstOffset) {
+        int w = dstOffset + (to - from);
+        for (int i = from; i < to; i++) {
+            char ch = src.charAt(i);
+            if (Character.isHighSurrogate(ch) && i + 1 < to && Character.isLowSurrogate(src.charAt(i + 1))) {
+                dst[--w] = src.charAt(++i);
+                dst[--w] = ch;
+            } else {
+                dst[--w] = ch;
+            }
+        }
+        return to - from;
+    }
+
+    /** In-place variant: swap from both ends, then restore the order inside each surrogate pair. */
+    public static void reverseInPlace(char[] a, int from, int to) {
+        boolean pairs = false;
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            char t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+            pairs |= Character.isSurrogate(t) || Character.isSurrogate(a[i]);
+        }
+        if (!pairs)
+            return;
+        for (int i = from; i + 1 < to; i++) {
+            if (Character.isLowSurrogate(a[i]) && Character.isHighSurrogate(a[i + 1])) {
+                char t = a[i];
+                a[i] = a[i + 1];
+                a[i + 1] = t;
+                i++;
+            }
+        }
+    }
+
+    /** Reverses whole grapheme clusters (base character plus combining marks, surrogate pairs). */
+    public static int reverseGraphemes(CharSequence src, char[] dst, int dstOffset) {
+        BreakIterator clusters = BreakIterator.getCharacterInstance();
+        clusters.setText(new SequenceIterator().reset(src));
+        return reverseGraphemes(src, clusters, dst, dstOffset);
+    }
+
+    // clusters must already be positioned over src
+    private static int reverseGraphemes(CharSequence src, BreakIterator clusters, char[] dst, int dstOffset) {
+        int w = dstOffset + src.length();
+        int start = clusters.first();
+        for (int end = clusters.next(); end != BreakIterator.DONE; start = end, end = clusters.next()) {
+            w -= end - start;
+            for (int i = start; i < end; i++)
+                dst[w + i - start] = src.charAt(i);
+        }
+        return src.length();
+    }
+
+    // CharacterIterator over any CharSequence, so BreakIterator can read it without a toString() copy
+    private static final class SequenceIterator implements CharacterIterator {
+        private CharSequence s = "";
+        private int index;
+
+        SequenceIterator reset(CharSequence s) {
+            this.s = s;
+            index = 0;
+            return this;
+        }
+
+        @Override
+        public char first() {
+            index = 0;
+            return current();
+        }
+
+        @Override
+        public char last() {
+            index = Math.max(0, s.length() - 1);
+            return current();
+        }
+
+        @Override
+        public char current() {
+            return index < s.length() ? s.charAt(index) : DONE;
+        }
+
+        @Override
+        public char next() {
+            if (index < s.length())
+                index++;
+            return current();
+        }
+
+        @Override
+        public char previous() {
+            if (index == 0)
+                return DONE;
+            return s.charAt(--index);
+        }
+
+        @Override
+        public char setIndex(int position) {
+            if (position < 0 || position > s.length())
+                throw new IllegalArgumentException("position " + position + " out of [0, " + s.length() + "]");
+            index = position;
+            return current();
+        }
+
+        @Override
+        public int getBeginIndex() {
+            return 0;
+        }
+
+        @Override
+        public int getEndIndex() {
+            return s.length();
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public Object clone() {
+            try {
+                return super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package InterviewQuestions;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Prime engine: segmented sieve of Eratosthenes for ranges, deterministic Miller-Rabin for single
+ * 64-bit values.
+ * The sieve stores odd numbers only, one bit each, in 32 KB segments so a segment stays in L1/L2.
+ * The base primes up to sqrt(hi) come from a shared bitset that grows on demand, up to CACHE_LIMIT
+ * (about 5 MB with its prime list), and is reused by every later call. Base primes above the cap,
+ * needed once hi passes 2^48, are streamed from a segmented sieve instead of stored (see CACHED_HI).
+ * Miller-Rabin runs in Montgomery form, so modular products need no division.
+ */
+public class _070_PrimeEngine {
+    public static void main(String[] args) {
+        System.out.println(Arrays.toString(primesInRange(90, 130, false))); // [97, 101, 103, 107, 109, 113, 127]
+        System.out.println(isPrime(1_000_000_007L)); // true
+        System.out.println(isPrime(9_223_372_036_854_775_783L)); // true, largest prime below 2^63
+        System.out.println(isPrime(3_215_031_751L)); // false, strong pseudoprime to bases 2, 3, 5, 7
+
+        long start = System.nanoTime();
+        long count = countPrimesParallel(1, 1_000_000_000L);
+        System.out.println("pi(10^9) = " + count + " in " + (System.nanoTime() - start) / 1_000_000 + " ms"); // 50847534
+    }
+
+    // 2^18 bits = 32 KB per segment, covering 2^19 consecutive integers
+    private static final int SEGMENT_BITS = 1 << 18;
+    private static final long SEGMENT_SPAN = 2L * SEGMENT_BITS;
+
+    // Largest accepted hi, about 4.6 * 10^18; see CACHED_HI for the cost of ranges above 2^48
+    static final long MAX_SIEVE_HI = (long) (Integer.MAX_VALUE - 1) * (Integer.MAX_VALUE - 1);
+
+    // The shared cache holds base primes up to 2^24: a 1 MB bitset plus a ~4 MB int[] of primes
+    static final int CACHE_LIMIT = 1 << 24;
+
+    /**
+     * Ranges with hi above this need base primes past CACHE_LIMIT. They are sieved in windows of
+     * WINDOW_BITS, and for each window the primes of (CACHE_LIMIT, sqrt(hi)] are regenerated segment
+     * by segment and used at once, so memory stays at one window plus one segment. That costs a sieve
+     * of up to ~1.5 * 10^9 numbers per window near MAX_SIEVE_HI, so ranges narrow enough are tested
+     * with isPrime per odd candidate instead.
+     */
+    static final long CACHED_HI = (long) CACHE_LIMIT * CACHE_LIMIT;
+
+    // 2^24 bits = 2 MB per window, covering 2^25 consecutive integers
+    private static final int WINDOW_BITS = 1 << 24;
+
+    /** Immutable snapshot of the shared base sieve: bit i set <=> 2i+1 is composite, for 2i+1 <= limit. */
+    private static final class SieveCache {
+        final long[] composite;
+        final long limit;
+        final int[] primes;
+
+        SieveCache(long[] composite, long limit, int[] primes) {
+            this.composite = composite;
+            this.limit = limit;
+            this.primes = primes;
+        }
+    }
+
+    private static volatile SieveCache cache = new SieveCache(new long[0], 0, new int[0]);
+
+    // limit is clamped to CACHE_LIMIT; larger base primes are the caller's to stream
+    private static int[] basePrimesUpTo(long limit) {
+        limit = Math.min(limit, CACHE_LIMIT);
+        SieveCache c = cache;
+        if (limit > c.limit) {
+            synchronized (_070_PrimeEngine.class) {
+                c = cache;
+                if (limit > c.limit) {
+                    // Grow geometrically so a series of rising ranges re-sieves only O(log) times
+                    long target = Math.min(CACHE_LIMIT, Math.max(1 << 16, Math.max(limit, 2 * c.limit)));
+                    c = cache = sieveCache((int) target);
+                }
+            }
+        }
+        int lo = 0, hi = c.primes.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (c.primes[mid] <= limit) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo == c.primes.length ? c.primes : Arrays.copyOf(c.primes, lo);
+    }
+
+    private static SieveCache sieveCache(int limit) {
+        int bits = (limit + 1) / 2 + 1;
+        long[] c = new long[(bits + 63) >>> 6];
+        c[0] |= 1L; // 1 is not prime
+        for (long p = 3; p * p <= limit; p += 2) {
+            if ((c[(int) (p >>> 7)] & (1L << (p >>> 1))) != 0) continue;
+            for (long m = p * p; m <= limit; m += 2 * p)
+                c[(int) (m >>> 7)] |= 1L << (m >>> 1);
+        }
+        int[] primes = new int[(int) (1.26 * limit / Math.log(limit)) + 16];
+        int n = 0;
+        primes[n++] = 2;
+        for (int i = 1; 2L * i + 1 <= limit; i++)
+            if ((c[i >>> 6] & (1L << i)) == 0)
+                primes[n++] = 2 * i + 1;
+        return new SieveCache(c, limit, Arrays.copyOf(primes, n));
+    }
+
+    /** All primes in [lo, hi], ascending. */
+    public static long[] primesInRange(long lo, long hi, boolean parallel) {
+        long[][] blocks = blocks(lo, hi, parallel ? Runtime.getRuntime().availableProcessors() * 8 : 1);
+        int tasks = blocks.length;
+        long[][] found = new long[tasks][];
+        IntStream range = IntStream.range(0, tasks);
+        (parallel ? range.parallel() : range).forEach(t -> {
+            PrimeBuffer buffer = new PrimeBuffer();
+            sieveRange(blocks[t][0], blocks[t][1], new long[SEGMENT_BITS / 64], buffer);
+            found[t] = buffer.toArray();
+        });
+        int total = 0;
+        for (long[] f : found) total += f.length;
+        long[] all = new long[total];
+        int pos = 0;
+        for (long[] f : found) {
+            System.arraycopy(f, 0, all, pos, f.length);
+            pos += f.length;
+        }
+        return all;
+    }
+
+    private static final class PrimeBuffer implements LongConsumer {
+        long[] primes = new long[64];
+        int size;
+
+        @Override
+        public void accept(long p) {
+            if (size == primes.length)
+                primes = Arrays.copyOf(primes, size * 2);
+            primes[size++] = p;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(primes, size);
+        }
+    }
+
+    public static long countPrimes(long lo, long hi) {
+        return countBlocks(blocks(lo, hi, 1), false);
+    }
+
+    public static long countPrimesParallel(long lo, long hi) {
+        return countBlocks(blocks(lo, hi, Runtime.getRuntime().availableProcessors() * 8), true);
+    }
+
+    public static void forEachPrime(long lo, long hi, LongConsumer action) {
+        if (hi > MAX_SIEVE_HI)
+            throw new IllegalArgumentException("hi must be <= " + MAX_SIEVE_HI + ": " + hi);
+        if (hi < Math.max(lo, 2)) return;
+        sieveRange(lo, hi, new long[SEGMENT_BITS / 64], action);
+    }
+
+    private static long countBlocks(long[][] blocks, boolean parallel) {
+        IntStream range = IntStream.range(0, blocks.length);
+        return (parallel ? range.parallel() : range)
+                .mapToLong(t -> countRange(blocks[t][0], blocks[t][1], new long[SEGMENT_BITS / 64]))
+                .sum();
+    }
+
+    // Splits [lo, hi] into up to `tasks` contiguous blocks aligned to whole segments
+    private static long[][] blocks(long lo, long hi, int tasks) {
+        if (hi > MAX_SIEVE_HI)
+            throw new IllegalArgumentException("hi must be <= " + MAX_SIEVE_HI + ": " + hi);
+        lo = Math.max(lo, 2);
+        if (hi < lo) return new long[0][];
+        long segments = (hi - lo) / SEGMENT_SPAN + 1;
+        long perTask = (segments + tasks - 1) / tasks;
+        int n = (int) ((segments + perTask - 1) / perTask);
+        long[][] blocks = new long[n][];
+        for (int t = 0; t < n; t++) {
+            long from = lo + t * perTask * SEGMENT_SPAN;
+            long to = Math.min(hi, from + perTask * SEGMENT_SPAN - 1);
+            blocks[t] = new long[] { from, to };
+        }
+        return blocks;
+    }
+
+    private static void sieveRange(long lo, long hi, long[] segment, LongConsumer action) {
+        if (lo <= 2 && hi >= 2)
+            action.accept(2);
+        if (testEachCandidate(lo, hi)) {
+            for (long n = Math.max(3, lo) | 1; n <= hi; n += 2)
+                if (isPrime(n))
+                    action.accept(n);
+            return;
+        }
+        int[] primes = basePrimesUpTo((long) Math.sqrt((double) hi) + 1);
+        long[] bits = hi > CACHED_HI ? new long[WINDOW_BITS / 64] : segment;
+        long span = 2L * 64 * bits.length;
+        for (long segLo = Math.max(3, lo) | 1; segLo <= hi; segLo += span) {
+            long segHi = Math.min(hi, segLo + span - 1);
+            int n = sieveSegment(segLo, segHi, primes, bits);
+            if (hi > CACHED_HI)
+                markStreamedPrimes(segLo, segHi, n, bits, primes, segment);
+            forEachClear(segLo, n, bits, action);
+        }
+    }
+
+    // Counting needs no per-prime callback: primes = candidates - popcount(composite bits)
+    private static long countRange(long lo, long hi, long[] segment) {
+        long count = lo <= 2 && hi >= 2 ? 1 : 0;
+        if (testEachCandidate(lo, hi)) {
+            for (long n = Math.max(3, lo) | 1; n <= hi; n += 2)
+                if (isPrime(n))
+                    count++;
+            return count;
+        }
+        int[] primes = basePrimesUpTo((long) Math.sqrt((double) hi) + 1);
+        long[] bits = hi > CACHED_HI ? new long[WINDOW_BITS / 64] : segment;
+        long span = 2L * 64 * bits.length;
+        for (long segLo = Math.max(3, lo) | 1; segLo <= hi; segLo += span) {
+            long segHi = Math.min(hi, segLo + span - 1);
+            int n = sieveSegment(segLo, segHi, primes, bits);
+            if (hi > CACHED_HI)
+                markStreamedPrimes(segLo, segHi, n, bits, primes, segment);
+            count += n;
+            for (int w = 0; w < (n + 63) >>> 6; w++)
+                count -= Long.bitCount(bits[w]);
+        }
+        return count;
+    }
+
+    // Above CACHED_HI, one Miller-Rabin test costs about as much as sieving a few thousand numbers
+    // while regenerating the base primes up to sqrt(hi), so few enough candidates are tested directly
+    private static boolean testEachCandidate(long lo, long hi) {
+        return hi > CACHED_HI && (hi - Math.max(lo, 3)) / 2 + 1 <= (long) Math.sqrt((double) hi) / 2048;
+    }
+
+    // Calls action with the number of every clear (prime) bit of the first `bits` bits, ascending
+    private static void forEachClear(long segLo, int bits, long[] segment, LongConsumer action) {
+        for (int w = 0; w < (bits + 63) >>> 6; w++) {
+            long free = ~segment[w];
+            if (w == (bits - 1) >>> 6 && (bits & 63) != 0)
+                free &= (1L << bits) - 1;
+            while (free != 0) {
+                int b = Long.numberOfTrailingZeros(free);
+                free &= free - 1;
+                action.accept(segLo + 2L * ((long) w * 64 + b));
+            }
+        }
+    }
+
+    /**
+     * Marks in window the odd multiples of every prime in (CACHE_LIMIT, sqrt(winHi)].
+     * Those primes are sieved one segment at a time with the cached primes (which reach past their
+     * square root) in scratch, and each is applied as soon as it is found, so none are stored.
+     */
+    private static void markStreamedPrimes(long winLo, long winHi, int bits, long[] window, int[] small, long[] scratch) {
+        long root = (long) Math.sqrt((double) winHi);
+        while (root * root > winHi) root--;
+        while ((root + 1) * (root + 1) <= winHi) root++;
+        for (long segLo = CACHE_LIMIT + 1; segLo <= root; segLo += SEGMENT_SPAN) {
+            int n = sieveSegment(segLo, Math.min(root, segLo + SEGMENT_SPAN - 1), small, scratch);
+            forEachClear(segLo, n, scratch, p -> {
+                long m = Math.max(p * p, (winLo + p - 1) / p * p);
+                if ((m & 1) == 0) m += p;
+                for (long b = (m - winLo) >>> 1; b < bits; b += p)
+                    window[(int) (b >>> 6)] |= 1L << b;
+            });
+        }
+    }
+
+    // Marks odd composites of [segLo, segHi] (segLo odd) in segment; returns the number of candidate bits
+    private static int sieveSegment(long segLo, long segHi, int[] primes, long[] segment) {
+        if (segHi < segLo)
+            return 0;
+        int bits = (int) ((segHi - segLo) / 2 + 1);
+        Arrays.fill(segment, 0, (bits + 63) >>> 6, 0L);
+        for (int i = 1; i < primes.length; i++) {
+            long p = primes[i];
+            if (p * p > segHi) break;
+            long m = Math.max(p * p, (segLo + p - 1) / p * p);
+            if ((m & 1) == 0) m += p;
+            for (long b = (m - segLo) >>> 1; b < bits; b += p)
+                segment[(int) (b >>> 6)] |= 1L << b;
+        }
+        return bits;
+    }
+
+    private static final int[] SMALL_PRIMES = { 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37 };
+    private static final long[] WITNESSES = { 2, 325, 9375, 28178, 450775, 9780504, 1795265022 };
+
+    /** Deterministic for every long (these seven bases have no strong pseudoprime below 2^64). */
+    public static boolean isPrime(long n) {
+        if (n < 2) return false;
+        if (n < 4) return true;
+        if ((n & 1) == 0) return false;
+        SieveCache c = cache;
+        if (n <= c.limit)
+            return (c.composite[(int) (n >>> 7)] & (1L << (n >>> 1))) == 0;
+        for (int p : SMALL_PRIMES)
+            if (n % p == 0) return n == p;
+
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>>= s;
+        Montgomery mont = new Montgomery(n);
+        long one = mont.one, minusOne = n - one;
+        for (long a : WITNESSES) {
+            a %= n;
+            if (a == 0) continue;
+            long x = mont.pow(mont.toMontgomery(a), d);
+            if (x == one || x == minusOne) continue;
+            boolean composite = true;
+            for (int r = 1; r < s; r++) {
+                x = mont.multiply(x, x);
+                if (x == minusOne) {
+                    composite = false;
+                    break;
+                }
+            }
+            if (composite) return false;
+        }
+        return true;
+    }
+
+    /** Montgomery arithmetic modulo an odd n < 2^63 with R = 2^64. */
+    static final class Montgomery {
+        final long n, negInv, one, r2;
+
+        Montgomery(long n) {
+            this.n = n;
+            long inv = n; // correct to 3 bits for odd n; each Newton step doubles that
+            for (int i = 0; i < 5; i++)
+                inv *= 2 - n * inv;
+            this.negInv = -inv;
+            this.one = Long.remainderUnsigned(-n, n); // 2^64 mod n
+            long r = one;
+            for (int i = 0; i < 64; i++)
+                r = addMod(r, r);
+            this.r2 = r; // 2^128 mod n
+        }
+
+        private long addMod(long a, long b) {
+            long s = a + b; // a, b < n < 2^63, so no unsigned overflow
+            return Long.compareUnsigned(s, n) >= 0 ? s - n : s;
+        }
+
+        long toMontgomery(long a) {
+            return multiply(a, r2);
+        }
+
+        long multiply(long a, long b) {
+            long lo = a * b;
+            long hi = Math.multiplyHigh(a, b); // both operands are non-negative
+            long m = lo * negInv;
+            long mnHi = unsignedMultiplyHigh(m, n);
+            long carry = lo != 0 ? 1 : 0; // lo + m*n == 0 mod 2^64
+            long t = hi + mnHi + carry;
+            return Long.compareUnsigned(t, n) >= 0 ? t - n : t;
+        }
+
+        long pow(long base, long e) {
+            long result = one;
+            while (e != 0) {
+                if ((e & 1) != 0) result = multiply(result, base);
+                base = multiply(base, base);
+                e >>>= 1;
+            }
+            return result;
+        }
+
+        private static long unsignedMultiplyHigh(long a, long b) {
+            return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+        }
+    }
+}
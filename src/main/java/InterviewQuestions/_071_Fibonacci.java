@@ -0,0 +1,91 @@
+package InterviewQuestions;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fibonacci numbers by fast doubling, O(log n) steps.
+ * fib(92) is the largest value that fits in a long, so n <= 92 is answered from a primitive table
+ * and larger n switch to BigInteger. Each doubling step is written as three squarings, which
+ * BigInteger.multiply recognises (x.multiply(x)) and runs with its cheaper Karatsuba/Toom-Cook square.
+ * A small synchronized LRU keeps recent BigInteger results.
+ */
+public class _071_Fibonacci {
+    public static void main(String[] args) {
+        System.out.println(Arrays.toString(series(10))); // [0, 1, 1, 2, 3, 5, 8, 13, 21, 34]
+        System.out.println(fibLong(92)); // 7540113804746346429
+        System.out.println(fib(100)); // 354224848179261915075
+        System.out.println(fibCached(1_000_000).bitLength()); // 694241
+    }
+
+    public static final int MAX_LONG_N = 92;
+
+    private static final long[] SMALL = new long[MAX_LONG_N + 1];
+
+    static {
+        SMALL[1] = 1;
+        for (int i = 2; i <= MAX_LONG_N; i++)
+            SMALL[i] = SMALL[i - 1] + SMALL[i - 2];
+    }
+
+    public static long fibLong(int n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n must be >= 0: " + n);
+        if (n > MAX_LONG_N)
+            throw new ArithmeticException("fib(" + n + ") overflows long; use fib(int)");
+        return SMALL[n];
+    }
+
+    /** First count Fibonacci numbers, unboxed; count is at most 93. */
+    public static long[] series(int count) {
+        if (count < 0 || count > MAX_LONG_N + 1)
+            throw new IllegalArgumentException("count must be between 0 and " + (MAX_LONG_N + 1) + ": " + count);
+        return Arrays.copyOf(SMALL, count);
+    }
+
+    public static BigInteger fib(int n) {
+        if (n <= MAX_LONG_N)
+            return BigInteger.valueOf(fibLong(n));
+        // Walk the bits of n from the top, keeping a = F(k), b = F(k+1)
+        BigInteger a = BigInteger.ZERO, b = BigInteger.ONE;
+        for (int bit = 31 - Integer.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            BigInteger prev = b.subtract(a); // F(k-1)
+            BigInteger a2 = a.multiply(a), b2 = b.multiply(b);
+            BigInteger even = b2.subtract(prev.multiply(prev)); // F(2k)   = F(k+1)^2 - F(k-1)^2
+            BigInteger odd = a2.add(b2);                         // F(2k+1) = F(k)^2 + F(k+1)^2
+            if (((n >>> bit) & 1) == 0) {
+                a = even;
+                b = odd;
+            } else {
+                a = odd;
+                b = even.add(odd);
+            }
+        }
+        return a;
+    }
+
+    private static final int CACHE_SIZE = 64;
+    private static final Map<Integer, BigInteger> RECENT = Collections.synchronizedMap(
+            new LinkedHashMap<Integer, BigInteger>(CACHE_SIZE * 2, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, BigInteger> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            });
+
+    /** fib(n) through a thread-safe LRU of the last 64 large results. */
+    public static BigInteger fibCached(int n) {
+        if (n <= MAX_LONG_N)
+            return fib(n);
+        BigInteger cached = RECENT.get(n);
+        if (cached != null)
+            return cached;
+        // Computed outside the lock; two threads racing on the same n just both compute it
+        BigInteger value = fib(n);
+        RECENT.put(n, value);
+        return value;
+    }
+}
@@ -0,0 +1,178 @@
+package InterviewQuestions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * Finds every Armstrong (narcissistic) number in a range of longs.
+ * Digit powers come from an exact long table, and numbers are walked like an odometer: stepping
+ * to the next number adjusts the running power sum for the digits that changed instead of
+ * splitting the number again. The range is cut at each new digit count and split across a ForkJoinPool.
+ */
+public class _072_ArmstrongSearch {
+    public static void main(String[] args) {
+        System.out.println(Arrays.toString(find(1, 100_000_000).toArray()));
+        // [1, 2, 3, 4, 5, 6, 7, 8, 9, 153, 370, 371, 407, 1634, 8208, 9474, 54748, 92727, 93084,
+        //  548834, 1741725, 4210818, 9800817, 9926315, 24678050, 24678051, 88593477]
+    }
+
+    // 18 digits keep the largest power sum (18 * 9^18) inside a long
+    public static final long MAX_HI = 999_999_999_999_999_999L;
+    private static final int MAX_DIGITS = 18;
+    private static final long LEAF_SIZE = 1 << 20;
+
+    // POW[d][k] = k^d
+    private static final long[][] POW = new long[MAX_DIGITS + 1][10];
+
+    static {
+        for (int d = 0; d <= MAX_DIGITS; d++) {
+            for (int k = 0; k < 10; k++) {
+                long p = 1;
+                for (int i = 0; i < d; i++)
+                    p *= k;
+                POW[d][k] = p;
+            }
+        }
+    }
+
+    /** Single-number check with the integer power table instead of Math.pow on doubles. 0 counts (0^1 == 0), as in find. */
+    public static boolean isArmstrong(long num) {
+        if (num < 0 || num > MAX_HI)
+            return false;
+        int digits = 1;
+        for (long n = num; n >= 10; n /= 10)
+            digits++;
+        long sum = 0;
+        for (long n = num; n != 0; n /= 10)
+            sum += POW[digits][(int) (n % 10)];
+        return sum == num;
+    }
+
+    /** All Armstrong numbers in [lo, hi], ascending. Negative lo is clamped to 0. */
+    public static LongStream find(long lo, long hi) {
+        // Each leaf fills its own long[]; leaves cover consecutive ranges, so walking the task
+        // tree left to right concatenates the hits already in ascending order
+        List<Search> roots = new ArrayList<>();
+        run(lo, hi, null, roots);
+        int total = 0;
+        for (Search root : roots)
+            total += root.hitCount();
+        long[] all = new long[total];
+        int at = 0;
+        for (Search root : roots)
+            at = root.copyHits(all, at);
+        return LongStream.of(all);
+    }
+
+    /** Streams each hit to sink as soon as a worker finds it; sink must be thread-safe, order is not guaranteed. */
+    public static void find(long lo, long hi, LongConsumer sink) {
+        run(lo, hi, sink, null);
+    }
+
+    // sink == null: leaves keep their hits and the finished root tasks are added to roots
+    private static void run(long lo, long hi, LongConsumer sink, List<Search> roots) {
+        if (hi > MAX_HI)
+            throw new IllegalArgumentException("hi must be <= " + MAX_HI + ": " + hi);
+        lo = Math.max(lo, 0);
+        // One task per digit count, so each leaf walks numbers of a single length
+        long from = lo;
+        long limit = 10;
+        int digits = 1;
+        while (from <= hi) {
+            while (limit <= from) {
+                limit *= 10;
+                digits++;
+            }
+            long to = Math.min(hi, limit - 1);
+            Search root = new Search(from, to, digits, sink);
+            ForkJoinPool.commonPool().invoke(root);
+            if (roots != null)
+                roots.add(root);
+            from = to + 1;
+        }
+    }
+
+    private static final class Search extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final long lo, hi;
+        final int digits;
+        final transient LongConsumer sink;
+        Search left, right;
+        long[] hits;
+        int hitCount;
+
+        Search(long lo, long hi, int digits, LongConsumer sink) {
+            this.lo = lo;
+            this.hi = hi;
+            this.digits = digits;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < LEAF_SIZE) {
+                scan();
+                return;
+            }
+            long mid = lo + (hi - lo) / 2;
+            left = new Search(lo, mid, digits, sink);
+            right = new Search(mid + 1, hi, digits, sink);
+            invokeAll(left, right);
+        }
+
+        int hitCount() {
+            return left == null ? hitCount : left.hitCount() + right.hitCount();
+        }
+
+        int copyHits(long[] dst, int at) {
+            if (left != null)
+                return right.copyHits(dst, left.copyHits(dst, at));
+            if (hitCount > 0)
+                System.arraycopy(hits, 0, dst, at, hitCount);
+            return at + hitCount;
+        }
+
+        private void emit(long value) {
+            if (sink != null) {
+                sink.accept(value);
+                return;
+            }
+            if (hits == null)
+                hits = new long[4];
+            else if (hitCount == hits.length)
+                hits = Arrays.copyOf(hits, hitCount * 2);
+            hits[hitCount++] = value;
+        }
+
+        private void scan() {
+            long[] pow = POW[digits];
+            int[] digit = new int[digits]; // digit[0] is the least significant
+            long sum = 0;
+            long n = lo;
+            for (int i = 0; i < digits; i++, n /= 10) {
+                digit[i] = (int) (n % 10);
+                sum += pow[digit[i]];
+            }
+            for (long value = lo; ; value++) {
+                if (sum == value)
+                    emit(value);
+                if (value == hi)
+                    return;
+                // Odometer step: roll 9s over to 0 and bump the next digit
+                int i = 0;
+                while (digit[i] == 9) {
+                    sum -= pow[9];
+                    digit[i++] = 0;
+                }
+                sum += pow[digit[i] + 1] - pow[digit[i]];
+                digit[i]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package InterviewQuestions;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Batch digit-sum and digit-reversal kernels over int[] and long[] columns.
+ * Both work four decimal digits at a time through 10000-entry lookup tables, so a long needs at
+ * most five table steps instead of up to nineteen % / steps. Reversal reports overflow instead of
+ * silently wrapping. Columns of at least PARALLEL_THRESHOLD values are split into parallel chunks.
+ */
+public class _073_DigitKernels {
+    public static void main(String[] args) {
+        int[] column = { 123, 69, -456, 1_000_000_003, Integer.MIN_VALUE };
+        int[] sums = new int[column.length];
+        digitSums(column, sums);
+        System.out.println(Arrays.toString(sums)); // [6, 15, 15, 4, 47]
+
+        int[] reversed = new int[column.length];
+        boolean[] overflow = new boolean[column.length];
+        int overflows = reverseAll(column, reversed, overflow);
+        System.out.println(Arrays.toString(reversed) + " overflows=" + overflows); // [321, 96, -654, 0, 0] overflows=2
+        System.out.println(reverse(Long.MIN_VALUE)); // -8085774586302733229
+    }
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int CHUNK = 1 << 14;
+
+    private static final byte[] DIGIT_SUM = new byte[10000];
+    // REVERSED[c] = c written with exactly four digits (leading zeros kept) and reversed: 12 -> "0012" -> 2100
+    private static final short[] REVERSED = new short[10000];
+    private static final int[] POW10 = { 1, 10, 100, 1000, 10000 };
+
+    static {
+        for (int c = 0; c < 10000; c++) {
+            DIGIT_SUM[c] = (byte) (c / 1000 + c / 100 % 10 + c / 10 % 10 + c % 10);
+            REVERSED[c] = (short) (c % 10 * 1000 + c / 10 % 10 * 100 + c / 100 % 10 * 10 + c / 1000);
+        }
+    }
+
+    /** Sum of decimal digits of |v|; works for Long.MIN_VALUE too. */
+    public static int digitSum(long v) {
+        int sum = 0;
+        if (v < 0) {
+            sum = DIGIT_SUM[(int) -(v % 10000)];
+            v = -(v / 10000);
+        }
+        while (v >= 10000) {
+            sum += DIGIT_SUM[(int) (v % 10000)];
+            v /= 10000;
+        }
+        return sum + DIGIT_SUM[(int) v];
+    }
+
+    /** Reversed digits of |v|, or -1 when the result does not fit in a long. */
+    static long reverseMagnitude(long v) {
+        long chunk, rest;
+        if (v < 0) {
+            chunk = -(v % 10000);
+            rest = -(v / 10000);
+        } else {
+            chunk = v % 10000;
+            rest = v / 10000;
+        }
+        long result = 0;
+        while (true) {
+            int c = (int) chunk;
+            long mul, add;
+            if (rest == 0) {
+                // Most significant chunk: only its real digits, no leading zeros
+                int k = c >= 1000 ? 4 : c >= 100 ? 3 : c >= 10 ? 2 : 1;
+                mul = POW10[k];
+                add = REVERSED[c] / POW10[4 - k];
+            } else {
+                mul = 10000;
+                add = REVERSED[c];
+            }
+            if (result > (Long.MAX_VALUE - add) / mul)
+                return -1;
+            result = result * mul + add;
+            if (rest == 0)
+                return result;
+            chunk = rest % 10000;
+            rest /= 10000;
+        }
+    }
+
+    /** Reverses the digits of v keeping its sign; throws ArithmeticException on long overflow. */
+    public static long reverse(long v) {
+        long m = reverseMagnitude(v);
+        if (m < 0)
+            throw new ArithmeticException("reversed digits of " + v + " overflow long");
+        return v < 0 ? -m : m;
+    }
+
+    public static int reverseExact(int v) {
+        long m = reverseMagnitude(v);
+        long r = v < 0 ? -m : m;
+        if (m < 0 || r != (int) r)
+            throw new ArithmeticException("reversed digits of " + v + " overflow int");
+        return (int) r;
+    }
+
+    public static void digitSums(int[] src, int[] dst) {
+        forChunks(src.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                dst[i] = digitSum(src[i]);
+            return 0;
+        });
+    }
+
+    public static void digitSums(long[] src, int[] dst) {
+        forChunks(src.length, (from, to) -> {
+            for (int i = from; i < to; i++)
+                dst[i] = digitSum(src[i]);
+            return 0;
+        });
+    }
+
+    /**
+     * dst[i] = reversed src[i]; entries that overflow int get 0 and overflow[i] = true.
+     * Returns the number of overflowed entries.
+     */
+    public static int reverseAll(int[] src, int[] dst, boolean[] overflow) {
+        return forChunks(src.length, (from, to) -> {
+            int bad = 0;
+            for (int i = from; i < to; i++) {
+                int v = src[i];
+                long m = reverseMagnitude(v);
+                long r = v < 0 ? -m : m;
+                boolean o = m < 0 || r != (int) r;
+                dst[i] = o ? 0 : (int) r;
+                overflow[i] = o;
+                if (o) bad++;
+            }
+            return bad;
+        });
+    }
+
+    public static int reverseAll(long[] src, long[] dst, boolean[] overflow) {
+        return forChunks(src.length, (from, to) -> {
+            int bad = 0;
+            for (int i = from; i < to; i++) {
+                long m = reverseMagnitude(src[i]);
+                boolean o = m < 0;
+                dst[i] = o ? 0 : src[i] < 0 ? -m : m;
+                overflow[i] = o;
+                if (o) bad++;
+            }
+            return bad;
+        });
+    }
+
+    private interface RangeKernel {
+        int run(int from, int to);
+    }
+
+    // Runs kernel over [0, n) directly, or in CHUNK-sized pieces on the common pool for large n
+    private static int forChunks(int n, RangeKernel kernel) {
+        if (n < PARALLEL_THRESHOLD)
+            return kernel.run(0, n);
+        int chunks = (n + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel()
+                .map(c -> kernel.run(c * CHUNK, Math.min(n, (c + 1) * CHUNK)))
+                .sum();
+    }
+}
@@ -0,0 +1,176 @@
+package InterviewQuestions;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Product of every element except self, O(n) and without division.
+ * out[i] = (product of a[0..i)) * (product of a(i..n)): a forward pass writes the prefix products into out,
+ * a backward pass multiplies in the running suffix. Large arrays are cut into blocks; each block's total is
+ * computed in parallel, the block totals are scanned once, and then every block runs its own two passes
+ * seeded with the products of the blocks to its left and right.
+ *
+ * Two arithmetic modes:
+ *  - exact: long results, ArithmeticException if any real result does not fit in a long
+ *  - modular: results in [0, modulus), for any modulus up to MAX_MODULUS
+ */
+public class _074_ProductExceptSelf {
+    public static void main(String[] args) {
+        long[] out = new long[5];
+        productExceptSelf(new long[]{10, 3, 5, 6, 2}, out);
+        System.out.println(Arrays.toString(out)); // [180, 600, 360, 300, 900]
+        productExceptSelf(new long[]{4, 0, 5, 2, 3}, out);
+        System.out.println(Arrays.toString(out)); // [0, 120, 0, 0, 0]
+        productExceptSelf(new long[]{1_000_000_000, 1_000_000_000, 7, 11, -3}, out, 1_000_000_007);
+        System.out.println(Arrays.toString(out)); // [1617, 1617, 999998390, 999998978, 3773]
+
+        long[] big = new long[5_000_000];
+        Arrays.fill(big, 3);
+        long[] bigOut = new long[big.length];
+        long start = System.nanoTime();
+        productExceptSelf(big, bigOut, 998_244_353);
+        System.out.printf("5M elements mod 998244353: %d ms%n", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // Largest modulus whose (modulus - 1)^2 still fits in a long
+    public static final long MAX_MODULUS = 3_037_000_499L;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_BLOCK = 1 << 14;
+    private static final long EXACT = 0;
+
+    /** Exact mode; throws ArithmeticException when a result overflows long. out must not be a. */
+    public static void productExceptSelf(long[] a, long[] out) {
+        checkOut(a.length, out, a);
+        exact(i -> a[i], a.length, out);
+    }
+
+    /** Same as the long[] version, reading the ints in place instead of widening a copy first. */
+    public static void productExceptSelf(int[] a, long[] out) {
+        checkOut(a.length, out, null);
+        exact(i -> a[i], a.length, out);
+    }
+
+    /** Modular mode: out[i] = product of the other elements mod modulus, in [0, modulus). Negative inputs are fine. */
+    public static void productExceptSelf(long[] a, long[] out, long modulus) {
+        checkModulus(modulus);
+        checkOut(a.length, out, a);
+        // Nothing is ever divided, so elements that are 0 mod modulus need no special case here
+        scan(i -> a[i], a.length, out, modulus);
+    }
+
+    public static void productExceptSelf(int[] a, long[] out, long modulus) {
+        checkModulus(modulus);
+        checkOut(a.length, out, null);
+        scan(i -> a[i], a.length, out, modulus);
+    }
+
+    private static void exact(IntToLongFunction a, int n, long[] out) {
+        int zeros = countZeros(a, n);
+        if (zeros > 0) {
+            // A zero makes every other result 0; only the zero's own slot can be non-zero, and only if it is alone
+            Arrays.fill(out, 0);
+            if (zeros == 1) {
+                int z = 0;
+                long product = 1;
+                for (int i = 0; i < n; i++) {
+                    long v = a.applyAsLong(i);
+                    if (v == 0)
+                        z = i;
+                    else
+                        product = Math.multiplyExact(product, v);
+                }
+                out[z] = product;
+            }
+            return;
+        }
+        // No zeros: every partial product below divides some real result, so an intermediate
+        // overflow means a result overflows too
+        scan(a, n, out, EXACT);
+    }
+
+    private static void checkModulus(long modulus) {
+        if (modulus < 1 || modulus > MAX_MODULUS)
+            throw new IllegalArgumentException("modulus must be between 1 and " + MAX_MODULUS + ": " + modulus);
+    }
+
+    private static void checkOut(int n, long[] out, long[] input) {
+        if (out.length != n)
+            throw new IllegalArgumentException("out length " + out.length + " != input length " + n);
+        if (out == input && n > 1)
+            throw new IllegalArgumentException("out must not be the input array");
+    }
+
+    private static int countZeros(IntToLongFunction a, int n) {
+        IntStream indexes = IntStream.range(0, n);
+        if (n >= PARALLEL_THRESHOLD)
+            indexes = indexes.parallel();
+        return (int) indexes.filter(i -> a.applyAsLong(i) == 0).count();
+    }
+
+    // modulus == EXACT selects overflow-checked long multiplication
+    private static long mul(long x, long y, long modulus) {
+        return modulus == EXACT ? Math.multiplyExact(x, y) : x * y % modulus;
+    }
+
+    private static long value(long v, long modulus) {
+        return modulus == EXACT ? v : Math.floorMod(v, modulus);
+    }
+
+    // a is the input (long[] or int[]) read by index
+    private static void scan(IntToLongFunction a, int n, long[] out, long modulus) {
+        if (n == 0)
+            return;
+        long one = value(1, modulus);
+        if (n < PARALLEL_THRESHOLD) {
+            scanBlock(a, out, 0, n, one, one, modulus);
+            return;
+        }
+        int blocks = Math.min(n / MIN_BLOCK, Runtime.getRuntime().availableProcessors() * 4);
+        int blockSize = (n + blocks - 1) / blocks;
+        blocks = (n + blockSize - 1) / blockSize;
+
+        // Phase 1: each block's total product, in parallel
+        long[] total = new long[blocks];
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            long p = one;
+            for (int i = b * blockSize, end = Math.min(n, i + blockSize); i < end; i++)
+                p = mul(p, value(a.applyAsLong(i), modulus), modulus);
+            total[b] = p;
+        });
+
+        // Exclusive scans over the few block totals
+        long[] left = new long[blocks];
+        long[] right = new long[blocks];
+        left[0] = one;
+        for (int b = 1; b < blocks; b++)
+            left[b] = mul(left[b - 1], total[b - 1], modulus);
+        right[blocks - 1] = one;
+        for (int b = blocks - 2; b >= 0; b--)
+            right[b] = mul(right[b + 1], total[b + 1], modulus);
+
+        // Phase 2: every block fills its slice of out independently
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            int from = b * blockSize;
+            scanBlock(a, out, from, Math.min(n, from + blockSize), left[b], right[b], modulus);
+        });
+    }
+
+    // out[i] = leftProduct * a[from..i) * a(i..to) * rightProduct for i in [from, to)
+    private static void scanBlock(IntToLongFunction a, long[] out, int from, int to, long leftProduct, long rightProduct, long modulus) {
+        // Neither pass multiplies in its final element: the product of the whole block with its
+        // left (or right) side is not part of any result and could overflow on its own in exact mode
+        long p = leftProduct;
+        out[from] = p;
+        for (int i = from + 1; i < to; i++) {
+            p = mul(p, value(a.applyAsLong(i - 1), modulus), modulus);
+            out[i] = p;
+        }
+        long s = rightProduct;
+        for (int i = to - 1; i > from; i--) {
+            out[i] = mul(out[i], s, modulus);
+            s = mul(s, value(a.applyAsLong(i), modulus), modulus);
+        }
+        out[from] = mul(out[from], s, modulus);
+    }
+}
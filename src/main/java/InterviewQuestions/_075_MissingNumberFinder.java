@@ -0,0 +1,267 @@
+package InterviewQuestions;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Finds the values of [lo, hi] missing from a stream of distinct ints, without loading the stream.
+ * Input is raw 4-byte big-endian ints (DataOutputStream.writeInt / ByteBuffer order), in any order.
+ *
+ * One missing value: O(1) memory. The XOR of everything read, XORed with the XOR of the whole range
+ * (closed form), leaves the missing value; the wrapping long sum gives it a second time, so input
+ * that is not "range minus one" is rejected instead of answered wrongly.
+ * k missing values: a bitmap over the range, or over windows of it when the range is bigger than the
+ * memory budget (re-reading the file once per window).
+ * FileChannel inputs are memory-mapped in chunks that are scanned in parallel.
+ */
+public class _075_MissingNumberFinder {
+    public static void main(String[] args) throws IOException {
+        System.out.println(findOne(stream(1, 2, 3, 5, 6), 1, 6)); // 4
+        System.out.println(Arrays.toString(findMissing(stream(9, 2, 7, 3, 5), 1, 10))); // [1, 4, 6, 8, 10]
+
+        Path file = Files.createTempFile("ints", ".bin");
+        try {
+            ByteBuffer data = ByteBuffer.allocate(4_000_000 * 4);
+            for (int v = -2_000_000; v < 2_000_000; v++)
+                if (v != 1234 && v != -77 && v != 1_999_999)
+                    data.putInt(v);
+            Files.write(file, Arrays.copyOf(data.array(), data.position()));
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                // 64KB bitmap windows: the 4M-value range is covered in 8 parallel passes
+                System.out.println(Arrays.toString(findMissing(channel, -2_000_000, 1_999_999, 1 << 16))); // [-77, 1234, 1999999]
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static InputStream stream(int... values) {
+        ByteBuffer buf = ByteBuffer.allocate(values.length * 4);
+        for (int v : values)
+            buf.putInt(v);
+        return new ByteArrayInputStream(buf.array());
+    }
+
+    static final int MAP_CHUNK = 16 << 20;
+    private static final int READ_BUFFER = 64 << 10;
+    private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // Running XOR, wrapping sum and count of the ints read so far; partial results combine in any order
+    private static final class Sums {
+        int xor;
+        long sum;
+        long count;
+
+        void add(int v) {
+            xor ^= v;
+            sum += v;
+            count++;
+        }
+
+        Sums combine(Sums other) {
+            xor ^= other.xor;
+            sum += other.sum;
+            count += other.count;
+            return this;
+        }
+    }
+
+    public static int findOne(InputStream in, int lo, int hi) throws IOException {
+        checkRange(lo, hi);
+        Sums sums = new Sums();
+        byte[] buf = new byte[READ_BUFFER];
+        IntBuffer ints = ByteBuffer.wrap(buf).asIntBuffer();
+        int n;
+        while ((n = readInts(in, buf)) > 0)
+            for (int i = 0; i < n; i++)
+                sums.add(ints.get(i));
+        return missingOne(sums, lo, hi);
+    }
+
+    public static int findOne(FileChannel channel, int lo, int hi) throws IOException {
+        checkRange(lo, hi);
+        long size = intSize(channel);
+        Sums sums = IntStream.range(0, chunkCount(size)).parallel()
+                .mapToObj(c -> {
+                    IntBuffer ints = map(channel, c, size);
+                    Sums s = new Sums();
+                    for (int i = 0, n = ints.limit(); i < n; i++)
+                        s.add(ints.get(i));
+                    return s;
+                })
+                .reduce(new Sums(), Sums::combine);
+        return missingOne(sums, lo, hi);
+    }
+
+    /** All missing values of [lo, hi], ascending; the bitmap covers the whole range (up to 512MB for all ints). */
+    public static int[] findMissing(InputStream in, int lo, int hi) throws IOException {
+        checkRange(lo, hi);
+        long[] words = new long[(int) ((rangeSize(lo, hi) + 63) >>> 6)];
+        byte[] buf = new byte[READ_BUFFER];
+        IntBuffer ints = ByteBuffer.wrap(buf).asIntBuffer();
+        int n;
+        while ((n = readInts(in, buf)) > 0)
+            markAll(ints, n, words, lo, lo, hi, false);
+        Missing missing = new Missing();
+        missing.collect(words, lo, rangeSize(lo, hi));
+        return missing.toArray();
+    }
+
+    /**
+     * All missing values of [lo, hi], ascending, using at most bitmapBytes of bitmap at a time.
+     * A range wider than bitmapBytes * 8 values is handled window by window, one parallel pass over the file each.
+     */
+    public static int[] findMissing(FileChannel channel, int lo, int hi, int bitmapBytes) throws IOException {
+        checkRange(lo, hi);
+        if (bitmapBytes < 8)
+            throw new IllegalArgumentException("bitmapBytes must be >= 8: " + bitmapBytes);
+        long size = intSize(channel);
+        long windowBits = Math.min((long) (bitmapBytes >>> 3) << 6, rangeSize(lo, hi));
+        long[] words = new long[(int) ((windowBits + 63) >>> 6)];
+        Missing missing = new Missing();
+        for (long from = lo; from <= hi; from += windowBits) {
+            int windowLo = (int) from;
+            int windowHi = (int) Math.min(hi, from + windowBits - 1);
+            Arrays.fill(words, 0);
+            IntStream.range(0, chunkCount(size)).parallel().forEach(c -> {
+                IntBuffer ints = map(channel, c, size);
+                markAll(ints, ints.limit(), words, windowLo, lo, hi, true);
+            });
+            missing.collect(words, windowLo, (long) windowHi - windowLo + 1);
+        }
+        return missing.toArray();
+    }
+
+    // Sets the bit of each value in [windowLo, windowLo + 64 * words.length); rejects values outside [lo, hi] and repeats
+    private static void markAll(IntBuffer ints, int n, long[] words, int windowLo, int lo, int hi, boolean atomic) {
+        long windowBits = (long) words.length << 6;
+        for (int i = 0; i < n; i++) {
+            int v = ints.get(i);
+            if (v < lo || v > hi)
+                throw new IllegalArgumentException("value " + v + " is outside [" + lo + ", " + hi + "]");
+            long bit = (long) v - windowLo;
+            if (bit < 0 || bit >= windowBits)
+                continue;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long before;
+            if (atomic) {
+                before = (long) WORDS.getAndBitwiseOr(words, word, mask);
+            } else {
+                before = words[word];
+                words[word] = before | mask;
+            }
+            if ((before & mask) != 0)
+                throw new IllegalArgumentException("value " + v + " occurs more than once");
+        }
+    }
+
+    // Growable ascending list of the clear bits seen so far
+    private static final class Missing {
+        int[] values = new int[16];
+        int size;
+
+        void collect(long[] words, int base, long bits) {
+            for (int w = 0; (long) w << 6 < bits; w++) {
+                long clear = ~words[w];
+                long remaining = bits - ((long) w << 6);
+                if (remaining < 64)
+                    clear &= (1L << remaining) - 1;
+                while (clear != 0) {
+                    if (size == values.length)
+                        values = Arrays.copyOf(values, size * 2);
+                    values[size++] = (int) (base + ((long) w << 6) + Long.numberOfTrailingZeros(clear));
+                    clear &= clear - 1;
+                }
+            }
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static int missingOne(Sums sums, int lo, int hi) {
+        long count = rangeSize(lo, hi);
+        int candidate = rangeXor(lo, hi) ^ sums.xor;
+        if (sums.count != count - 1 || rangeSum(lo, hi) - sums.sum != candidate)
+            throw new IllegalArgumentException("input is not [" + lo + ", " + hi + "] with exactly one distinct value missing");
+        return candidate;
+    }
+
+    private static long rangeSize(int lo, int hi) {
+        return (long) hi - lo + 1;
+    }
+
+    // Sum of [lo, hi] modulo 2^64: the halving happens before the (possibly wrapping) multiply
+    private static long rangeSum(int lo, int hi) {
+        long count = rangeSize(lo, hi);
+        long ends = (long) lo + hi;
+        return (count & 1) == 0 ? (count >>> 1) * ends : count * (ends >> 1);
+    }
+
+    // XOR of [lo, hi]; flipping the sign bit maps ints onto [0, 2^32) in order, where xorUpTo applies
+    private static int rangeXor(int lo, int hi) {
+        long uLo = (lo ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        long uHi = (hi ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+        int flipped = (int) (xorUpTo(uHi) ^ xorUpTo(uLo - 1));
+        return (rangeSize(lo, hi) & 1) == 0 ? flipped : flipped ^ Integer.MIN_VALUE;
+    }
+
+    // 0 ^ 1 ^ ... ^ n, which repeats with period 4
+    private static long xorUpTo(long n) {
+        if (n < 0)
+            return 0;
+        switch ((int) (n & 3)) {
+            case 0: return n;
+            case 1: return 1;
+            case 2: return n + 1;
+            default: return 0;
+        }
+    }
+
+    private static void checkRange(int lo, int hi) {
+        if (lo > hi)
+            throw new IllegalArgumentException("lo must be <= hi: " + lo + " > " + hi);
+    }
+
+    // Fills buf from in; returns the number of whole ints read, 0 at end of stream
+    private static int readInts(InputStream in, byte[] buf) throws IOException {
+        int n = in.readNBytes(buf, 0, buf.length);
+        if ((n & 3) != 0)
+            throw new IllegalArgumentException("stream length is not a multiple of 4 bytes");
+        return n >>> 2;
+    }
+
+    private static long intSize(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if ((size & 3) != 0)
+            throw new IllegalArgumentException("file length " + size + " is not a multiple of 4 bytes");
+        return size;
+    }
+
+    private static int chunkCount(long size) {
+        return (int) ((size + MAP_CHUNK - 1) / MAP_CHUNK);
+    }
+
+    private static IntBuffer map(FileChannel channel, int chunk, long size) {
+        long from = (long) chunk * MAP_CHUNK;
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(MAP_CHUNK, size - from)).asIntBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
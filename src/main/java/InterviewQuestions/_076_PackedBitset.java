@@ -0,0 +1,109 @@
+package InterviewQuestions;
+
+import java.util.stream.IntStream;
+
+/**
+ * Fixed-size bitset packed 64 flags per long, with a longest-run-of-ones kernel.
+ * Sizes are longs, so a bitset can hold up to 2^37 slots (Integer.MAX_VALUE words).
+ * Runs are found a word at a time: full and empty words are skipped whole, and a mixed word
+ * contributes its trailing and leading ones to the runs crossing its edges (numberOfTrailingZeros /
+ * numberOfLeadingZeros of the complement). The parallel mode summarises word ranges as
+ * (prefix, suffix, best) and stitches the summaries left to right, as in _060_ConsecutiveRunFinder.
+ */
+public class _076_PackedBitset {
+    public static void main(String[] args) {
+        _076_PackedBitset bits = fromFlags(new int[]{ 1, 1, 0, 0, 1, 1, 1, 0, 0, 1, 1, 1, 1, 1 });
+        System.out.println(bits.longestRun()); // 5
+
+        // 2^30 slots, 128MB of words; 300 set bits in the middle plus the every-third bit after them make a run of 301
+        _076_PackedBitset big = new _076_PackedBitset(1L << 30);
+        for (long i = 0; i < big.size(); i += 3)
+            big.set(i);
+        for (long i = 600_000_000L; i < 600_000_300L; i++)
+            big.set(i);
+        long start = System.nanoTime();
+        long run = big.longestRunParallel();
+        System.out.println(run + " in " + (System.nanoTime() - start) / 1_000_000 + " ms"); // 301 in ... ms
+    }
+
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+    private static final long MAX_SIZE = (long) Integer.MAX_VALUE << 6;
+
+    private final long[] words;
+    private final long size;
+
+    public _076_PackedBitset(long size) {
+        if (size < 0 || size > MAX_SIZE)
+            throw new IllegalArgumentException("size must be between 0 and " + MAX_SIZE + ": " + size);
+        this.size = size;
+        this.words = new long[(int) ((size + 63) >>> 6)];
+    }
+
+    /** Packs flags[i] != 0 into bit i; large arrays are packed in parallel, one word per task slot. */
+    public static _076_PackedBitset fromFlags(int[] flags) {
+        _076_PackedBitset bits = new _076_PackedBitset(flags.length);
+        long[] words = bits.words;
+        IntStream wordIndexes = IntStream.range(0, words.length);
+        if (words.length >= PARALLEL_THRESHOLD)
+            wordIndexes = wordIndexes.parallel();
+        wordIndexes.forEach(w -> {
+            long word = 0;
+            for (int i = w << 6, end = Math.min(flags.length, i + 64), bit = 0; i < end; i++, bit++)
+                if (flags[i] != 0)
+                    word |= 1L << bit;
+            words[w] = word;
+        });
+        return bits;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean get(long index) {
+        checkIndex(index);
+        return (words[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    public void set(long index) {
+        checkIndex(index);
+        words[(int) (index >>> 6)] |= 1L << index;
+    }
+
+    public void clear(long index) {
+        checkIndex(index);
+        words[(int) (index >>> 6)] &= ~(1L << index);
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("index " + index + " out of [0, " + size + ")");
+    }
+
+    public long cardinality() {
+        long count = 0;
+        for (long w : words)
+            count += Long.bitCount(w);
+        return count;
+    }
+
+    /** Longest run of set bits. Bits past size are always clear, so they never extend a run. */
+    public long longestRun() {
+        return _060_ConsecutiveRunFinder.summarize(words, 0, words.length).best;
+    }
+
+    public long longestRunParallel() {
+        if (words.length < PARALLEL_THRESHOLD)
+            return longestRun();
+        int parts = Math.min(words.length / (PARALLEL_THRESHOLD / 4), Runtime.getRuntime().availableProcessors() * 4);
+        int wordsPerPart = (words.length + parts - 1) / parts;
+        _060_ConsecutiveRunFinder.RunSummary[] summaries = IntStream.range(0, parts).parallel()
+                .mapToObj(p -> _060_ConsecutiveRunFinder.summarize(words, Math.min(words.length, p * wordsPerPart),
+                        Math.min(words.length, (p + 1) * wordsPerPart)))
+                .toArray(_060_ConsecutiveRunFinder.RunSummary[]::new);
+        _060_ConsecutiveRunFinder.RunSummary total = summaries[0];
+        for (int p = 1; p < parts; p++)
+            total = total.append(summaries[p]);
+        return total.best;
+    }
+}
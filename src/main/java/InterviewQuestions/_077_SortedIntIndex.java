@@ -0,0 +1,208 @@
+package InterviewQuestions;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * First/last position lookups on a sorted int[].
+ *
+ * Static methods: branchless lower/upper bound. Each step only chooses between two indexes, and a
+ * ternary like that compiles to a conditional move, so a search costs log2(n) loads and no
+ * mispredicted branches.
+ *
+ * Instances: an Eytzinger (BFS-order) copy of the array for read-heavy static data. Node k has its
+ * children at 2k and 2k+1, so the first levels of every search share a few cache lines, and the
+ * nodes a search can visit next are adjacent in memory. Java cannot issue prefetch instructions,
+ * so the batch API gets the same overlap by running BATCH searches in lockstep: their loads for one
+ * level are independent and are in flight at the same time instead of one miss after another.
+ */
+public class _077_SortedIntIndex {
+    public static void main(String[] args) {
+        int[] arr = {5, 7, 7, 8, 8, 10};
+        System.out.println(Arrays.toString(range(arr, 8))); // [3, 4]
+        System.out.println(Arrays.toString(range(arr, 6))); // [-1, -1]
+
+        _077_SortedIntIndex index = new _077_SortedIntIndex(arr);
+        int[] targets = {8, 7, 6, 10, 5};
+        int[] first = new int[targets.length], last = new int[targets.length];
+        index.ranges(targets, first, last);
+        System.out.println(Arrays.toString(first) + " " + Arrays.toString(last)); // [3, 1, -1, 5, 0] [4, 2, -1, 5, 0]
+
+        int[] big = new Random(1).ints(8_000_000, 0, 1 << 30).sorted().toArray();
+        int[] keys = new Random(2).ints(4_000_000, 0, 1 << 30).toArray();
+        int[] out = new int[keys.length];
+        _077_SortedIntIndex bigIndex = new _077_SortedIntIndex(big);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < keys.length; i++)
+                out[i] = lowerBound(big, keys[i]);
+            long branchless = System.nanoTime() - start;
+            start = System.nanoTime();
+            bigIndex.lowerBounds(keys, out);
+            long eytzinger = System.nanoTime() - start;
+            System.out.printf("4M lookups in 8M: branchless %d ms, Eytzinger batch %d ms%n",
+                    branchless / 1_000_000, eytzinger / 1_000_000);
+        }
+    }
+
+    /** First index whose value is >= key, or a.length; a must be sorted ascending. */
+    public static int lowerBound(int[] a, int key) {
+        return lowerBound(a, 0, a.length, key);
+    }
+
+    public static int lowerBound(int[] a, int from, int to, int key) {
+        int base = from, n = to - from;
+        if (n == 0)
+            return from;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = a[base + half] < key ? base + half : base;
+            n -= half;
+        }
+        return base + (a[base] < key ? 1 : 0);
+    }
+
+    /** First index whose value is > key, or a.length. */
+    public static int upperBound(int[] a, int key) {
+        return upperBound(a, 0, a.length, key);
+    }
+
+    public static int upperBound(int[] a, int from, int to, int key) {
+        int base = from, n = to - from;
+        if (n == 0)
+            return from;
+        while (n > 1) {
+            int half = n >>> 1;
+            base = a[base + half] <= key ? base + half : base;
+            n -= half;
+        }
+        return base + (a[base] <= key ? 1 : 0);
+    }
+
+    /** {first, last} index of key in sorted a, or {-1, -1}. */
+    public static int[] range(int[] a, int key) {
+        int first = lowerBound(a, key);
+        if (first == a.length || a[first] != key)
+            return new int[]{-1, -1};
+        return new int[]{first, upperBound(a, key) - 1};
+    }
+
+    static final int BATCH = 16;
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int CHUNK = 1 << 12;
+
+    private final int n;
+    private final int levels;
+    // tree[k] for k in [1, n] in BFS order; sortedIndex[k] is that value's position in the sorted input
+    private final int[] tree;
+    private final int[] sortedIndex;
+
+    /** Builds the Eytzinger copy; sorted must be ascending (duplicates allowed) and is not retained. */
+    public _077_SortedIntIndex(int[] sorted) {
+        for (int i = 1; i < sorted.length; i++)
+            if (sorted[i - 1] > sorted[i])
+                throw new IllegalArgumentException("input is not sorted at index " + i);
+        n = sorted.length;
+        levels = 32 - Integer.numberOfLeadingZeros(n);
+        tree = new int[n + 1];
+        sortedIndex = new int[n + 1];
+        build(sorted, 0, 1);
+    }
+
+    // In-order walk of the implicit tree hands out the sorted values in order
+    private int build(int[] sorted, int i, int k) {
+        if (k <= n) {
+            i = build(sorted, i, 2 * k);
+            tree[k] = sorted[i];
+            sortedIndex[k] = i++;
+            i = build(sorted, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** Same result as lowerBound on the original sorted array. */
+    public int lowerBound(int key) {
+        int k = 1;
+        while (k <= n)
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        return resolve(k);
+    }
+
+    public int upperBound(int key) {
+        int k = 1;
+        while (k <= n)
+            k = 2 * k + (tree[k] <= key ? 1 : 0);
+        return resolve(k);
+    }
+
+    // The path's last left turn is the answer: drop the trailing right turns (1 bits) and that left turn
+    private int resolve(int k) {
+        k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+        return k == 0 ? n : sortedIndex[k];
+    }
+
+    public int[] range(int key) {
+        int first = lowerBound(key), end = upperBound(key);
+        return first == end ? new int[]{-1, -1} : new int[]{first, end - 1};
+    }
+
+    /** out[i] = lowerBound(keys[i]); large batches are split across the common pool. */
+    public void lowerBounds(int[] keys, int[] out) {
+        search(keys, out, false);
+    }
+
+    public void upperBounds(int[] keys, int[] out) {
+        search(keys, out, true);
+    }
+
+    /** first[i], last[i] = positions of keys[i] in the sorted input, or -1, -1 when absent. */
+    public void ranges(int[] keys, int[] first, int[] last) {
+        search(keys, first, false);
+        search(keys, last, true);
+        for (int i = 0; i < keys.length; i++) {
+            // Absent exactly when no element equals the key, i.e. both bounds are the same index
+            if (last[i] == first[i]) {
+                first[i] = -1;
+                last[i] = -1;
+            } else {
+                last[i]--;
+            }
+        }
+    }
+
+    private void search(int[] keys, int[] out, boolean upper) {
+        if (out.length < keys.length)
+            throw new IllegalArgumentException("out is shorter than keys: " + out.length + " < " + keys.length);
+        int chunks = (keys.length + CHUNK - 1) / CHUNK;
+        IntStream c = IntStream.range(0, chunks);
+        if (keys.length >= PARALLEL_THRESHOLD)
+            c = c.parallel();
+        c.forEach(chunk -> {
+            int[] lanes = new int[BATCH];
+            for (int from = chunk * CHUNK, end = Math.min(keys.length, from + CHUNK); from < end; from += BATCH)
+                searchGroup(keys, out, from, Math.min(end, from + BATCH), upper, lanes);
+        });
+    }
+
+    // Up to BATCH searches advanced one tree level at a time, so their memory loads overlap
+    private void searchGroup(int[] keys, int[] out, int from, int to, boolean upper, int[] k) {
+        int lanes = to - from;
+        Arrays.fill(k, 0, lanes, 1);
+        for (int level = 0; level < levels; level++) {
+            for (int j = 0; j < lanes; j++) {
+                int node = k[j];
+                if (node <= n) {
+                    int v = tree[node], key = keys[from + j];
+                    k[j] = 2 * node + ((upper ? v <= key : v < key) ? 1 : 0);
+                }
+            }
+        }
+        for (int j = 0; j < lanes; j++)
+            out[from + j] = resolve(k[j]);
+    }
+}
@@ -0,0 +1,354 @@
+package InterviewQuestions;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Stable partition of int[] / long[] by a predicate; moving zeros to one end is the special case
+ * compactLeft(a, from, to, NON_ZERO, 0).
+ *
+ * Elements are handled in blocks of 64: the predicate results form a 64-bit mask, a block whose
+ * mask is all ones is moved with one System.arraycopy, an all-zero mask is skipped, and a mixed
+ * block copies only its set bits, found with numberOfTrailingZeros (numberOfLeadingZeros when
+ * compacting to the right). This is the same mask-then-compress shape a vector compress would use.
+ * Large arrays use two phases: blocks are compacted in parallel and return their kept counts, then
+ * the compacted pieces are slid together (in place), or scattered to prefix-sum offsets (out of place).
+ */
+public class _078_StablePartition {
+    public static void main(String[] args) {
+        int[] a = {1, 0, 2, 0, 3, 0, 0, 0};
+        compactLeft(a, 0, a.length, NON_ZERO, 0);
+        System.out.println(Arrays.toString(a)); // [1, 2, 3, 0, 0, 0, 0, 0]
+
+        int[] b = {1, 0, 2, 0, 3, 0, 0, 0};
+        compactRight(b, 0, b.length, NON_ZERO, 0);
+        System.out.println(Arrays.toString(b)); // [0, 0, 0, 0, 0, 1, 2, 3]
+
+        long[] readings = {5, -1, 7, -1, -1, 9, 3};
+        long[] out = new long[readings.length];
+        int valid = partition(readings, out, v -> v >= 0);
+        System.out.println(valid + " " + Arrays.toString(out)); // 4 [5, 7, 9, 3, -1, -1, -1]
+
+        int[] sensors = new int[20_000_000];
+        for (int i = 0; i < sensors.length; i += 17)
+            sensors[i] = i;
+        long start = System.nanoTime();
+        int kept = compactLeft(sensors, 0, sensors.length, NON_ZERO, 0);
+        System.out.println(kept + " non-zero kept in " + (System.nanoTime() - start) / 1_000_000 + " ms"); // 1176470 non-zero kept ...
+    }
+
+    public static final IntPredicate NON_ZERO = v -> v != 0;
+    public static final LongPredicate NON_ZERO_LONG = v -> v != 0;
+
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int BLOCK = 64;
+    private static final int CHUNK = 1 << 14;
+
+    // ---- int[] ----
+
+    /**
+     * Moves the elements of a[from, to) that satisfy keep to the front of the range, in their original
+     * order, and fills the rest with fill. Returns the number kept.
+     */
+    public static int compactLeft(int[] a, int from, int to, IntPredicate keep, int fill) {
+        checkRange(a.length, from, to);
+        int w;
+        if (to - from < PARALLEL_THRESHOLD) {
+            w = compactLeftRange(a, from, to, keep);
+        } else {
+            // Phase 1: every chunk compacts itself to its own start
+            int chunks = (to - from + CHUNK - 1) / CHUNK;
+            int[] kept = IntStream.range(0, chunks).parallel()
+                    .map(c -> {
+                        int lo = from + c * CHUNK;
+                        return compactLeftRange(a, lo, Math.min(to, lo + CHUNK), keep) - lo;
+                    })
+                    .toArray();
+            // Phase 2: slide the compacted pieces together; each target lies at or before its source
+            w = from;
+            for (int c = 0; c < chunks; c++) {
+                int lo = from + c * CHUNK;
+                if (w != lo)
+                    System.arraycopy(a, lo, a, w, kept[c]);
+                w += kept[c];
+            }
+        }
+        Arrays.fill(a, w, to, fill);
+        return w - from;
+    }
+
+    // Returns the write position after compacting a[from, to) to start at from
+    private static int compactLeftRange(int[] a, int from, int to, IntPredicate keep) {
+        int w = from;
+        for (int b = from; b < to; b += BLOCK) {
+            int len = Math.min(BLOCK, to - b);
+            long mask = 0;
+            for (int i = 0; i < len; i++)
+                mask |= (keep.test(a[b + i]) ? 1L : 0L) << i;
+            if (mask == fullMask(len)) {
+                if (w != b)
+                    System.arraycopy(a, b, a, w, len);
+                w += len;
+            } else {
+                for (; mask != 0; mask &= mask - 1)
+                    a[w++] = a[b + Long.numberOfTrailingZeros(mask)];
+            }
+        }
+        return w;
+    }
+
+    /** Mirror of compactLeft: kept elements end up at the back of the range, in order; returns the number kept. */
+    public static int compactRight(int[] a, int from, int to, IntPredicate keep, int fill) {
+        checkRange(a.length, from, to);
+        int w;
+        if (to - from < PARALLEL_THRESHOLD) {
+            w = compactRightRange(a, from, to, keep);
+        } else {
+            // Chunks are numbered from the right end, so the last chunk is the short one
+            int chunks = (to - from + CHUNK - 1) / CHUNK;
+            int[] kept = IntStream.range(0, chunks).parallel()
+                    .map(c -> {
+                        int hi = to - c * CHUNK;
+                        return hi - compactRightRange(a, Math.max(from, hi - CHUNK), hi, keep);
+                    })
+                    .toArray();
+            w = to;
+            for (int c = 0; c < chunks; c++) {
+                int hi = to - c * CHUNK;
+                if (w != hi)
+                    System.arraycopy(a, hi - kept[c], a, w - kept[c], kept[c]);
+                w -= kept[c];
+            }
+        }
+        Arrays.fill(a, from, w, fill);
+        return to - w;
+    }
+
+    // Returns the lowest written position after compacting a[from, to) to end at to
+    private static int compactRightRange(int[] a, int from, int to, IntPredicate keep) {
+        int w = to;
+        for (int e = to; e > from; e -= BLOCK) {
+            int len = Math.min(BLOCK, e - from);
+            int b = e - len;
+            long mask = 0;
+            for (int i = 0; i < len; i++)
+                mask |= (keep.test(a[b + i]) ? 1L : 0L) << i;
+            if (mask == fullMask(len)) {
+                if (w != e)
+                    System.arraycopy(a, b, a, w - len, len);
+                w -= len;
+            } else {
+                while (mask != 0) {
+                    int i = 63 - Long.numberOfLeadingZeros(mask);
+                    a[--w] = a[b + i];
+                    mask &= ~(1L << i);
+                }
+            }
+        }
+        return w;
+    }
+
+    /**
+     * Stable two-sided partition into dst: elements satisfying first, in order, then the others, in order.
+     * Returns the number satisfying first. Large inputs count per chunk, then scatter per chunk, in parallel.
+     */
+    public static int partition(int[] src, int[] dst, IntPredicate first) {
+        if (dst.length < src.length)
+            throw new IllegalArgumentException("dst is shorter than src: " + dst.length + " < " + src.length);
+        if (dst == src && src.length > 0)
+            throw new IllegalArgumentException("dst must not be src");
+        int n = src.length;
+        int chunks = Math.max(1, (n + CHUNK - 1) / CHUNK);
+        boolean parallel = n >= PARALLEL_THRESHOLD;
+        long[][] masks = new long[chunks][];
+        int[] counts = new int[chunks];
+        chunkStream(chunks, parallel).forEach(c -> {
+            int lo = c * CHUNK, hi = Math.min(n, lo + CHUNK);
+            long[] m = new long[(hi - lo + BLOCK - 1) / BLOCK];
+            int count = 0;
+            for (int i = lo; i < hi; i++) {
+                if (first.test(src[i])) {
+                    m[(i - lo) >>> 6] |= 1L << (i - lo);
+                    count++;
+                }
+            }
+            masks[c] = m;
+            counts[c] = count;
+        });
+        int[] firstAt = new int[chunks];
+        int total = 0;
+        for (int c = 0; c < chunks; c++) {
+            firstAt[c] = total;
+            total += counts[c];
+        }
+        int totalFirst = total;
+        chunkStream(chunks, parallel).forEach(c -> {
+            int lo = c * CHUNK, hi = Math.min(n, lo + CHUNK);
+            int f = firstAt[c], r = totalFirst + (lo - firstAt[c]);
+            long[] m = masks[c];
+            for (int i = lo; i < hi; i++) {
+                if ((m[(i - lo) >>> 6] & (1L << (i - lo))) != 0)
+                    dst[f++] = src[i];
+                else
+                    dst[r++] = src[i];
+            }
+        });
+        return totalFirst;
+    }
+
+    // ---- long[] ----
+
+    public static int compactLeft(long[] a, int from, int to, LongPredicate keep, long fill) {
+        checkRange(a.length, from, to);
+        int w;
+        if (to - from < PARALLEL_THRESHOLD) {
+            w = compactLeftRange(a, from, to, keep);
+        } else {
+            int chunks = (to - from + CHUNK - 1) / CHUNK;
+            int[] kept = IntStream.range(0, chunks).parallel()
+                    .map(c -> {
+                        int lo = from + c * CHUNK;
+                        return compactLeftRange(a, lo, Math.min(to, lo + CHUNK), keep) - lo;
+                    })
+                    .toArray();
+            w = from;
+            for (int c = 0; c < chunks; c++) {
+                int lo = from + c * CHUNK;
+                if (w != lo)
+                    System.arraycopy(a, lo, a, w, kept[c]);
+                w += kept[c];
+            }
+        }
+        Arrays.fill(a, w, to, fill);
+        return w - from;
+    }
+
+    private static int compactLeftRange(long[] a, int from, int to, LongPredicate keep) {
+        int w = from;
+        for (int b = from; b < to; b += BLOCK) {
+            int len = Math.min(BLOCK, to - b);
+            long mask = 0;
+            for (int i = 0; i < len; i++)
+                mask |= (keep.test(a[b + i]) ? 1L : 0L) << i;
+            if (mask == fullMask(len)) {
+                if (w != b)
+                    System.arraycopy(a, b, a, w, len);
+                w += len;
+            } else {
+                for (; mask != 0; mask &= mask - 1)
+                    a[w++] = a[b + Long.numberOfTrailingZeros(mask)];
+            }
+        }
+        return w;
+    }
+
+    public static int compactRight(long[] a, int from, int to, LongPredicate keep, long fill) {
+        checkRange(a.length, from, to);
+        int w;
+        if (to - from < PARALLEL_THRESHOLD) {
+            w = compactRightRange(a, from, to, keep);
+        } else {
+            int chunks = (to - from + CHUNK - 1) / CHUNK;
+            int[] kept = IntStream.range(0, chunks).parallel()
+                    .map(c -> {
+                        int hi = to - c * CHUNK;
+                        return hi - compactRightRange(a, Math.max(from, hi - CHUNK), hi, keep);
+                    })
+                    .toArray();
+            w = to;
+            for (int c = 0; c < chunks; c++) {
+                int hi = to - c * CHUNK;
+                if (w != hi)
+                    System.arraycopy(a, hi - kept[c], a, w - kept[c], kept[c]);
+                w -= kept[c];
+            }
+        }
+        Arrays.fill(a, from, w, fill);
+        return to - w;
+    }
+
+    private static int compactRightRange(long[] a, int from, int to, LongPredicate keep) {
+        int w = to;
+        for (int e = to; e > from; e -= BLOCK) {
+            int len = Math.min(BLOCK, e - from);
+            int b = e - len;
+            long mask = 0;
+            for (int i = 0; i < len; i++)
+                mask |= (keep.test(a[b + i]) ? 1L : 0L) << i;
+            if (mask == fullMask(len)) {
+                if (w != e)
+                    System.arraycopy(a, b, a, w - len, len);
+                w -= len;
+            } else {
+                while (mask != 0) {
+                    int i = 63 - Long.numberOfLeadingZeros(mask);
+                    a[--w] = a[b + i];
+                    mask &= ~(1L << i);
+                }
+            }
+        }
+        return w;
+    }
+
+    public static int partition(long[] src, long[] dst, LongPredicate first) {
+        if (dst.length < src.length)
+            throw new IllegalArgumentException("dst is shorter than src: " + dst.length + " < " + src.length);
+        if (dst == src && src.length > 0)
+            throw new IllegalArgumentException("dst must not be src");
+        int n = src.length;
+        int chunks = Math.max(1, (n + CHUNK - 1) / CHUNK);
+        boolean parallel = n >= PARALLEL_THRESHOLD;
+        long[][] masks = new long[chunks][];
+        int[] counts = new int[chunks];
+        chunkStream(chunks, parallel).forEach(c -> {
+            int lo = c * CHUNK, hi = Math.min(n, lo + CHUNK);
+            long[] m = new long[(hi - lo + BLOCK - 1) / BLOCK];
+            int count = 0;
+            for (int i = lo; i < hi; i++) {
+                if (first.test(src[i])) {
+                    m[(i - lo) >>> 6] |= 1L << (i - lo);
+                    count++;
+                }
+            }
+            masks[c] = m;
+            counts[c] = count;
+        });
+        int[] firstAt = new int[chunks];
+        int total = 0;
+        for (int c = 0; c < chunks; c++) {
+            firstAt[c] = total;
+            total += counts[c];
+        }
+        int totalFirst = total;
+        chunkStream(chunks, parallel).forEach(c -> {
+            int lo = c * CHUNK, hi = Math.min(n, lo + CHUNK);
+            int f = firstAt[c], r = totalFirst + (lo - firstAt[c]);
+            long[] m = masks[c];
+            for (int i = lo; i < hi; i++) {
+                if ((m[(i - lo) >>> 6] & (1L << (i - lo))) != 0)
+                    dst[f++] = src[i];
+                else
+                    dst[r++] = src[i];
+            }
+        });
+        return totalFirst;
+    }
+
+    // ---- shared ----
+
+    private static long fullMask(int len) {
+        return len == 64 ? -1L : (1L << len) - 1;
+    }
+
+    private static IntStream chunkStream(int chunks, boolean parallel) {
+        IntStream s = IntStream.range(0, chunks);
+        return parallel ? s.parallel() : s;
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to)
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of [0, " + length + ")");
+    }
+}
@@ -0,0 +1,266 @@
+package InterviewQuestions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * In-place reverse(array, from, to) and rotate(array, from, to, distance) for every primitive array type.
+ * Rotation is three reversals: reverse the whole range, then each of the two pieces.
+ *
+ * A reversal is a set of independent swaps (from + i, to - 1 - i), so ranges of at least
+ * PARALLEL_THRESHOLD swaps are split into chunks that swap on the common pool. byte[] ranges
+ * swap 8 bytes per step: a long is read from each end and written back through Long.reverseBytes,
+ * which reverses the eight byte lanes in one instruction (BSWAP on x86).
+ */
+public class _079_ArrayReverser {
+    public static void main(String[] args) {
+        int[] a = {1, 2, 3, 4, 5, 6, 7};
+        reverse(a, 0, a.length / 2);
+        System.out.println(Arrays.toString(a)); // [3, 2, 1, 4, 5, 6, 7]
+        reverse(a, 0, a.length / 2);
+        reverse(a, a.length / 2, a.length);
+        System.out.println(Arrays.toString(a)); // [1, 2, 3, 7, 6, 5, 4]
+
+        char[] chars = {'a', 'b', 'c', 'd', 'e'};
+        rotate(chars, 0, chars.length, 2);
+        System.out.println(chars); // deabc
+
+        byte[] bytes = "0123456789abcdefghij".getBytes();
+        reverse(bytes, 0, bytes.length);
+        System.out.println(new String(bytes)); // jihgfedcba9876543210
+
+        long[] big = new long[50_000_000];
+        Arrays.setAll(big, i -> i);
+        long start = System.nanoTime();
+        reverse(big, 0, big.length);
+        System.out.println(big[0] + " first after reversing 50M longs in " + (System.nanoTime() - start) / 1_000_000 + " ms"); // 49999999 first ...
+    }
+
+    static final int PARALLEL_THRESHOLD = 1 << 20;
+    private static final int CHUNK = 1 << 16;
+    private static final VarHandle BYTES_AS_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private interface SwapRange {
+        // Swaps pairs lo..hi-1, counted from the outside of the range inwards
+        void swap(int lo, int hi);
+    }
+
+    // Runs all half swaps, in parallel chunks when there are enough of them
+    private static void swapAll(int half, SwapRange action) {
+        if (half < PARALLEL_THRESHOLD) {
+            action.swap(0, half);
+            return;
+        }
+        int chunks = (half + CHUNK - 1) / CHUNK;
+        IntStream.range(0, chunks).parallel().forEach(c -> action.swap(c * CHUNK, Math.min(half, (c + 1) * CHUNK)));
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || to > length || from > to)
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of [0, " + length + ")");
+    }
+
+    // Right rotation distance reduced into [0, length)
+    private static int shift(int from, int to, int distance) {
+        int length = to - from;
+        return length == 0 ? 0 : Math.floorMod(distance, length);
+    }
+
+    // ---- byte[] ----
+
+    public static void reverse(byte[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> swapBytes(a, from, to, lo, hi));
+    }
+
+    private static void swapBytes(byte[] a, int from, int to, int lo, int hi) {
+        int i = from + lo, j = to - lo, end = from + hi;
+        // Eight mirrored pairs at a time: [i, i + 8) swaps with [j - 8, j), each reversed
+        for (; i + 8 <= end; i += 8, j -= 8) {
+            long left = (long) BYTES_AS_LONG.get(a, i);
+            long right = (long) BYTES_AS_LONG.get(a, j - 8);
+            BYTES_AS_LONG.set(a, i, Long.reverseBytes(right));
+            BYTES_AS_LONG.set(a, j - 8, Long.reverseBytes(left));
+        }
+        for (j--; i < end; i++, j--) {
+            byte t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+
+    /** Rotates a[from, to) right by distance (negative rotates left), like Collections.rotate. */
+    public static void rotate(byte[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- int[] ----
+
+    public static void reverse(int[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                int t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(int[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- long[] ----
+
+    public static void reverse(long[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                long t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(long[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- short[] ----
+
+    public static void reverse(short[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                short t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(short[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- char[] ----
+
+    public static void reverse(char[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                char t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(char[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- float[] ----
+
+    public static void reverse(float[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                float t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(float[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- double[] ----
+
+    public static void reverse(double[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                double t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(double[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+
+    // ---- boolean[] ----
+
+    public static void reverse(boolean[] a, int from, int to) {
+        checkRange(a.length, from, to);
+        swapAll((to - from) >>> 1, (lo, hi) -> {
+            for (int i = from + lo, j = to - 1 - lo, end = from + hi; i < end; i++, j--) {
+                boolean t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        });
+    }
+
+    public static void rotate(boolean[] a, int from, int to, int distance) {
+        checkRange(a.length, from, to);
+        int d = shift(from, to, distance);
+        if (d == 0)
+            return;
+        reverse(a, from, to);
+        reverse(a, from, from + d);
+        reverse(a, from + d, to);
+    }
+}
@@ -0,0 +1,25 @@
+package InterviewQuestions;
+
+/**
+ * Shared integer hash finalizers for the primitive hash tables, sketches and filters in this package.
+ * Both are the MurmurHash3 finalizers: cheap, and every input bit affects every output bit, so
+ * the low bits can be masked straight into a power-of-two table.
+ */
+public final class _080_HashMix {
+    private _080_HashMix() {
+    }
+
+    // MurmurHash3 64-bit finalizer
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    // MurmurHash3 32-bit finalizer
+    public static int mix32(int h) {
+        h = (h ^ (h >>> 16)) * 0x85ebca6b;
+        h = (h ^ (h >>> 13)) * 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+}
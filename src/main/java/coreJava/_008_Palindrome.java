@@ -4,14 +4,14 @@ public class _008_Palindrome {
 
 	public static Boolean palindrome(String str) {
 		
-		String temp = "";
-		for (int i = str.length()-1; i>=0 ; i--) {
-			temp = temp + str.charAt(i);
+		// Compare from both ends instead of building a reversed copy
+		int left = 0;
+		int right = str.length()-1;
+		while (left < right) {
+			if(str.charAt(left++) != str.charAt(right--))
+				return false;
 		}
-		
-		if(str.equals(temp))
-			return true;
-		return false;
+		return true;
 	}
 	
 	public static void main(String[] args) {